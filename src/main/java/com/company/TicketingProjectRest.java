@@ -3,8 +3,10 @@ import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // To be able to run @Scheduled methods. Ex: OverdueScanServiceImpl.scheduledScan()
 public class TicketingProjectRest {
 
     public static void main(String[] args) {
@@ -0,0 +1,18 @@
+package com.company.annotation;
+import com.company.enums.OperationClass;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+/*
+ * 🖍️...
+ * · A method annotated with @Bulkhead(OperationClass.HEAVY_READ) can only run if the HEAVY_READ bulkhead has a free permit.
+ *   Check BulkheadAspect and OperationBulkhead classes.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    OperationClass value();
+
+}
@@ -0,0 +1,37 @@
+package com.company.bulkhead;
+import com.company.annotation.Bulkhead;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+/*
+ * 🖍️...
+ * · @Around advice runs instead of the @Bulkhead annotated method: It takes a permit, calls the method with proceed(),
+ *   and always gives the permit back in finally.
+ * · The advice works only through the Spring proxy, so a call from the same class (Ex: this.update()) is not guarded again.
+ * · @Order(0): Runs before the transaction advice (lowest precedence). The permit is taken before @Transactional opens the transaction, so a waiting call doesn't hold a connection.
+ */
+@Aspect
+@Component
+@Order(0)
+public class BulkheadAspect {
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public BulkheadAspect(BulkheadRegistry bulkheadRegistry) {
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+
+    @Around("@annotation(bulkhead)")
+    public Object guard(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+        OperationBulkhead operationBulkhead = bulkheadRegistry.get(bulkhead.value());
+        operationBulkhead.acquire();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            operationBulkhead.release();
+        }
+    }
+
+}
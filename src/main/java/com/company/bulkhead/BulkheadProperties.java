@@ -0,0 +1,38 @@
+package com.company.bulkhead;
+import com.company.enums.OperationClass;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+/*
+ * 🖍️...
+ * · Limits of every bulkhead, read from application.properties.
+ *   Ex: bulkhead.limits.heavy-read.max-concurrent=4
+ *       bulkhead.limits.heavy-read.max-queue=20
+ *       bulkhead.limits.heavy-read.max-wait=500ms
+ * · The sum of max-concurrent values should stay below the Hikari pool size (10 by default), so cheap lookups always find a connection.
+ */
+@Component
+@ConfigurationProperties(prefix = "bulkhead")
+@Getter
+@Setter
+public class BulkheadProperties {
+
+    private Map<OperationClass, Limits> limits = new EnumMap<>(OperationClass.class);
+
+    public Limits getLimits(OperationClass operationClass) {
+        return limits.getOrDefault(operationClass, new Limits());
+    }
+
+    @Getter
+    @Setter
+    public static class Limits {
+        private int maxConcurrent = 4;
+        private int maxQueue = 20;
+        private Duration maxWait = Duration.ofMillis(500);
+    }
+
+}
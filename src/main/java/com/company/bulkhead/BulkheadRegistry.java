@@ -0,0 +1,24 @@
+package com.company.bulkhead;
+import com.company.enums.OperationClass;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class BulkheadRegistry {
+    private final Map<OperationClass, OperationBulkhead> bulkheads = new EnumMap<>(OperationClass.class);
+
+    public BulkheadRegistry(BulkheadProperties bulkheadProperties, MeterRegistry meterRegistry) {
+        for (OperationClass operationClass : OperationClass.values()) {
+            String name = operationClass.name().toLowerCase().replace('_', '-');
+            bulkheads.put(operationClass, new OperationBulkhead(name, bulkheadProperties.getLimits(operationClass), meterRegistry));
+        }
+    }
+
+
+    public OperationBulkhead get(OperationClass operationClass) {
+        return bulkheads.get(operationClass);
+    }
+
+}
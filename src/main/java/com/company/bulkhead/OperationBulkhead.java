@@ -0,0 +1,98 @@
+package com.company.bulkhead;
+import com.company.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+/*
+ * 🖍️...
+ * · A concurrency bulkhead: At most maxConcurrent calls run at the same time, at most maxQueue calls wait for a permit,
+ *   and a call waits at most maxWait. Everything beyond that is rejected at once with BulkheadFullException (load shedding).
+ * · The semaphore is fair: A free permit goes to the caller that has waited longest, also on the fast path.
+ * · A thread that already holds a permit of this bulkhead enters again without a new permit.
+ *   Ex: ProjectServiceImpl.complete() -> TaskService.completeByProject() are both BULK_WRITE, and must not wait for each other.
+ * · Metrics (tag bulkhead=<name>): bulkhead.active, bulkhead.queue.depth, bulkhead.wait, bulkhead.rejections (tag reason).
+ */
+public class OperationBulkhead {
+    private final String name;
+    private final int maxQueue;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final ThreadLocal<Integer> holdCount = ThreadLocal.withInitial(() -> 0);
+    private final Timer waitTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public OperationBulkhead(String name, BulkheadProperties.Limits limits, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxQueue = limits.getMaxQueue();
+        this.maxWait = limits.getMaxWait();
+        this.permits = new Semaphore(limits.getMaxConcurrent(), true);
+        int maxConcurrent = limits.getMaxConcurrent();
+        Gauge.builder("bulkhead.active", permits, p -> maxConcurrent - p.availablePermits()).tag("bulkhead", name).register(meterRegistry);
+        Gauge.builder("bulkhead.queue.depth", queueDepth, AtomicInteger::get).tag("bulkhead", name).register(meterRegistry);
+        this.waitTimer = Timer.builder("bulkhead.wait").tag("bulkhead", name).register(meterRegistry);
+        this.queueFullRejections = Counter.builder("bulkhead.rejections").tag("bulkhead", name).tag("reason", "queue_full").register(meterRegistry);
+        this.timeoutRejections = Counter.builder("bulkhead.rejections").tag("bulkhead", name).tag("reason", "timeout").register(meterRegistry);
+    }
+
+
+    public void acquire() {
+        if (holdCount.get() > 0) {
+            holdCount.set(holdCount.get() + 1);
+            return;
+        }
+        if (!tryAcquireNow()) {
+            waitForPermit();
+        }
+        holdCount.set(1);
+    }
+
+    public void release() {
+        int count = holdCount.get() - 1;
+        if (count > 0) {
+            holdCount.set(count);
+            return;
+        }
+        holdCount.remove();
+        permits.release();
+    }
+
+    private boolean tryAcquireNow() { // tryAcquire() without a timeout would barge ahead of the queued callers even on a fair semaphore.
+        try {
+            return permits.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void waitForPermit() {
+        if (queueDepth.incrementAndGet() > maxQueue) {
+            queueDepth.decrementAndGet();
+            queueFullRejections.increment();
+            throw new BulkheadFullException("Server is busy (" + name + " queue is full), please try again later.");
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            queueDepth.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            timeoutRejections.increment();
+            throw new BulkheadFullException("Server is busy (" + name + " wait time exceeded), please try again later.");
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.company.cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+/*
+ * 🖍️...
+ * · In-process caches of the read-mostly lookups (Check CacheNames class), kept coherent across the instances by CacheInvalidator.
+ * · Store by value (the SerializationDelegate): Every cache hit returns a copy (the DTOs are Serializable). The callers change the DTOs they get,
+ *   Ex: UserServiceQueryBudgetTest.update() → user.setPhone(..), and that must not change the cached value.
+ * · TransactionAwareCacheManagerProxy: A value loaded inside a transaction is put into the cache only after the commit,
+ *   so a rolled back change is never cached.
+ * · Fixed cache names: getCache() of another name returns null instead of creating a cache.
+ * · Every entry expires cache.ttl after it was written (Check ExpiringConcurrentMapCache class), in case an invalidation was missed.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.ttl:10m}") Duration ttl) {
+        SerializationDelegate serialization = new SerializationDelegate(getClass().getClassLoader()); // Not a bean itself: The serializer of the copies is created here.
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager() {
+            @Override
+            protected ConcurrentMapCache createConcurrentMapCache(String name) { // Always by value, with a TTL.
+                return new ExpiringConcurrentMapCache(name, isAllowNullValues(), serialization, ttl, Clock.systemUTC());
+            }
+        };
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(CacheNames.USERS, CacheNames.ROLES, CacheNames.PROJECTS, CacheNames.PROJECT_MANAGERS));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.company.cache;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+/*
+ * 🖍️...
+ * · One invalidation message: a key of a cache, a whole cache (key == null), or every cache (cacheName == "*").
+ * · Payload: "cacheName:key", so it fits in a Postgres NOTIFY payload (max 8000 bytes). Cache names never contain ':', keys may.
+ *   Ex: "users:harold@manager.com", "projects:" (the whole projects cache), "*:" (every cache)
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CacheInvalidation {
+
+    public static final String EVERY_CACHE = "*";
+
+    private final String cacheName;
+    private final String key;
+
+    public static CacheInvalidation everything() { // After a transport reconnects: the messages it missed are unknown.
+        return new CacheInvalidation(EVERY_CACHE, null);
+    }
+
+    public static CacheInvalidation fromPayload(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cache invalidation payload: " + payload);
+        }
+        String key = payload.substring(separator + 1);
+        return new CacheInvalidation(payload.substring(0, separator), key.isEmpty() ? null : key);
+    }
+
+    public String toPayload() {
+        return cacheName + ":" + (key == null ? "" : key);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.company.cache;
+import java.util.function.Consumer;
+/*
+ * 🖍️...
+ * · Carries invalidations to every instance of the application, including the one that publishes them.
+ * · publish() is called inside the writing transaction. The listeners receive the invalidation only if it commits, and only after it.
+ * · Implementations (cache-invalidation.transport):
+ *   postgres : PostgresCacheInvalidationTransport, LISTEN/NOTIFY on the application's own database. No message broker is needed.
+ *   local    : LocalCacheInvalidationTransport, in-process only. For tests and a single instance.
+ */
+public interface CacheInvalidationTransport {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+}
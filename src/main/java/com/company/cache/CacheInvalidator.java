@@ -0,0 +1,61 @@
+package com.company.cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+/*
+ * 🖍️...
+ * · Called by the service methods that change cached data. Ex: UserServiceImpl.update() → evict(USERS, userName)
+ * · Two evictions, because a cache only holds committed data:
+ *   1. Now, in this instance: The same transaction reads its own change afterwards, not the cached old value.
+ *   2. After the commit, in every instance (through the CacheInvalidationTransport): Removes the old value that a concurrent
+ *      request could cache again between 1. and the commit, and the values in the other instances.
+ *   A rolled back transaction only did 1.; the next read loads the (unchanged) value again.
+ * · evictIfPresent() / invalidate() are immediate even on a transaction-aware cache (Check CacheConfiguration class), evict() / clear() aren't.
+ * · Metrics: cache.invalidation.evictions (cache tag).
+ */
+@Component
+public class CacheInvalidator {
+    private final CacheManager cacheManager;
+    private final CacheInvalidationTransport transport;
+    private final MeterRegistry meterRegistry;
+
+    public CacheInvalidator(CacheManager cacheManager, CacheInvalidationTransport transport, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.transport = transport;
+        this.meterRegistry = meterRegistry;
+        transport.subscribe(this::apply);
+    }
+
+
+    public void evict(String cacheName, Object key) {
+        publish(new CacheInvalidation(cacheName, String.valueOf(key)));
+    }
+
+    public void evictAll(String cacheName) {
+        publish(new CacheInvalidation(cacheName, null));
+    }
+
+    void apply(CacheInvalidation invalidation) {
+        if (CacheInvalidation.EVERY_CACHE.equals(invalidation.getCacheName())) {
+            cacheManager.getCacheNames().forEach(name -> apply(new CacheInvalidation(name, null)));
+            return;
+        }
+        Cache cache = cacheManager.getCache(invalidation.getCacheName());
+        if (cache == null) { // A cache of a newer version of the application.
+            return;
+        }
+        if (invalidation.getKey() == null) {
+            cache.invalidate();
+        } else {
+            cache.evictIfPresent(invalidation.getKey());
+        }
+        meterRegistry.counter("cache.invalidation.evictions", "cache", invalidation.getCacheName()).increment();
+    }
+
+    private void publish(CacheInvalidation invalidation) {
+        apply(invalidation); // 1.
+        transport.publish(invalidation); // 2.
+    }
+
+}
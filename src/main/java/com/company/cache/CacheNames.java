@@ -0,0 +1,16 @@
+package com.company.cache;
+/*
+ * 🖍️...
+ * · The names of the in-process caches (Check CacheConfiguration class) and what their keys are.
+ */
+public final class CacheNames {
+
+    public static final String USERS = "users";       // UserService.findByUserName(), key: userName
+    public static final String ROLES = "roles";       // RoleService.listAllRoles(), key: "all"
+    public static final String PROJECTS = "projects"; // ProjectService.getByProjectCode(), key: projectCode
+    public static final String PROJECT_MANAGERS = "projectManagers"; // ProjectRepository.findManagerIdById(), key: project id as a String
+
+    private CacheNames() {
+    }
+
+}
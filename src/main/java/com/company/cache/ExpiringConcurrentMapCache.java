@@ -0,0 +1,62 @@
+package com.company.cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+/*
+ * 🖍️...
+ * · A ConcurrentMapCache whose entries expire ttl after they were written (Check CacheConfiguration class).
+ * · The backstop of the invalidations: A value that missed its eviction (Ex: an instance that was disconnected from the transport
+ *   and reconnected, or data changed by SQL outside of the services) is served for at most ttl.
+ * · An expired entry is removed when it is read; entries that are never read again stay until they are overwritten or evicted.
+ */
+public class ExpiringConcurrentMapCache extends ConcurrentMapCache {
+    private final Duration ttl;
+    private final Clock clock;
+
+    public ExpiringConcurrentMapCache(String name, boolean allowNullValues, SerializationDelegate serialization, Duration ttl, Clock clock) {
+        super(name, new ConcurrentHashMap<>(256), allowNullValues, serialization);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+
+    @Override
+    protected Object lookup(Object key) {
+        Object stored = getNativeCache().get(key);
+        if (stored instanceof Expiring && ((Expiring) stored).expiresAt <= clock.millis()) {
+            getNativeCache().remove(key, stored); // Unless it was written again meanwhile.
+            return null;
+        }
+        return stored;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        lookup(key); // Removes an expired entry, so it is loaded again.
+        return super.get(key, valueLoader);
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return new Expiring(super.toStoreValue(userValue), clock.millis() + ttl.toMillis());
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return super.fromStoreValue(storeValue instanceof Expiring ? ((Expiring) storeValue).value : storeValue);
+    }
+
+    private static final class Expiring {
+        private final Object value; // Already serialized when the cache stores by value.
+        private final long expiresAt;
+
+        private Expiring(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.company.cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+/*
+ * 🖍️...
+ * · publish(): SELECT pg_notify(channel, payload) on the connection of the current transaction (JdbcTemplate joins the JPA
+ *   transaction). Postgres holds the notification until the commit, and drops it at a rollback, so the invalidation and the
+ *   write are atomic; no instance can miss a committed change while it stays connected.
+ * · Listening: One dedicated connection per instance (not from the Hikari pool, it is held forever) runs LISTEN channel, and a
+ *   daemon thread waits for the notifications with PGConnection.getNotifications(timeout). Every instance receives its own
+ *   notifications as well, so the local eviction goes the same way as the remote ones.
+ * · Reconnect: The notifications sent while the connection was broken are lost, so after every (re)connect every cache is cleared.
+ * · Metrics: cache.invalidation.received, cache.invalidation.reconnects.
+ */
+@Component
+@ConditionalOnProperty(name = "cache-invalidation.transport", havingValue = "postgres")
+public class PostgresCacheInvalidationTransport implements CacheInvalidationTransport {
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final String channel;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private final Counter received;
+    private final Counter reconnects;
+    private final Thread listenerThread;
+    private volatile boolean running = true;
+
+    public PostgresCacheInvalidationTransport(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry,
+                                              @Value("${cache-invalidation.channel:cache_invalidation}") String channel,
+                                              @Value("${cache-invalidation.poll-timeout:1s}") Duration pollTimeout,
+                                              @Value("${cache-invalidation.reconnect-delay:2s}") Duration reconnectDelay) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) { // LISTEN takes an identifier, not a bind parameter.
+            throw new IllegalArgumentException("cache-invalidation.channel must be a lower case identifier: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.channel = channel;
+        this.pollTimeoutMillis = (int) pollTimeout.toMillis();
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+        this.received = meterRegistry.counter("cache.invalidation.received");
+        this.reconnects = meterRegistry.counter("cache.invalidation.reconnects");
+        this.listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        this.listenerThread.setDaemon(true);
+        this.listenerThread.start();
+    }
+
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> null, channel, invalidation.toPayload());
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        listenerThread.join(pollTimeoutMillis * 2L);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                deliver(CacheInvalidation.everything());
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        received.increment();
+                        deliver(CacheInvalidation.fromPayload(notification.getParameter()));
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    reconnects.increment();
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void deliver(CacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+}
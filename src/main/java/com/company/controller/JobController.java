@@ -0,0 +1,28 @@
+package com.company.controller;
+import com.company.dto.ProjectJobDTO;
+import com.company.service.ProjectJobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+/*
+ * 🖍️...
+ * · Polling API of the background project jobs (Check ProjectJobServiceImpl class).
+ *   Ex: GET /api/v1/job/7 → {"id": 7, "jobType": "DELETE_PROJECT", "jobStatus": "RUNNING", "totalTasks": 5000, "processedTasks": 1200, ...}
+ */
+@RestController
+@RequestMapping("/api/v1/job")
+public class JobController {
+    private final ProjectJobService projectJobService;
+    public JobController(ProjectJobService projectJobService) {
+        this.projectJobService = projectJobService;
+    }
+
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ProjectJobDTO> getJob(@PathVariable("id") Long id) {
+        ProjectJobDTO job = projectJobService.findById(id);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(job);
+    }
+
+
+
+}
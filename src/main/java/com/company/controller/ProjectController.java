@@ -0,0 +1,89 @@
+package com.company.controller;
+import com.company.dto.ProjectDTO;
+import com.company.dto.ProjectFilterDTO;
+import com.company.dto.ProjectJobDTO;
+import com.company.enums.JobType;
+import com.company.serializer.DtoJsonWriter;
+import com.company.serializer.FieldSelection;
+import com.company.service.ProjectJobService;
+import com.company.service.ProjectService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+/*
+ * 🖍️...
+ * · complete and delete run as background jobs: 202 Accepted with the job, and its polling url in the Location header.
+ *   Ex: PUT /api/v1/project/SP00/complete → 202, Location: /api/v1/job/7
+ * · /search: Filter (Check ProjectFilterDTO class), page, size and sort parameters.
+ *   Ex: GET /api/v1/project/search?assignedManagerId=2&projectStatus=OPEN,IN_PROGRESS&sort=endDate
+ */
+@RestController
+@RequestMapping("/api/v1/project")
+public class ProjectController {
+    private final ProjectService projectService;
+    private final DtoJsonWriter dtoJsonWriter;
+    private final ProjectJobService projectJobService;
+    public ProjectController(ProjectService projectService, DtoJsonWriter dtoJsonWriter, ProjectJobService projectJobService) {
+        this.projectService = projectService;
+        this.dtoJsonWriter = dtoJsonWriter;
+        this.projectJobService = projectJobService;
+    }
+
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> getProjects(@RequestParam Map<String, String> params) {
+        List<ProjectDTO> projects = projectService.listAllProjects();
+        FieldSelection selection = FieldSelection.of(FieldSelection.PROJECT, params);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> dtoJsonWriter.writeProjects(out, projects, selection));
+    }
+
+    @GetMapping("/details")
+    public ResponseEntity<StreamingResponseBody> getProjectDetails(@RequestParam Map<String, String> params) {
+        List<ProjectDTO> projects = projectService.listAllProjectDetails();
+        FieldSelection selection = FieldSelection.of(FieldSelection.PROJECT, params);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> dtoJsonWriter.writeProjects(out, projects, selection));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<StreamingResponseBody> searchProjects(ProjectFilterDTO filter, Pageable pageable, @RequestParam Map<String, String> params) {
+        Page<ProjectDTO> projects = projectService.filter(filter, pageable);
+        FieldSelection selection = FieldSelection.of(FieldSelection.PROJECT, params);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> dtoJsonWriter.writeProjectPage(out, projects, selection));
+    }
+
+    @GetMapping("/{projectCode}")
+    public ResponseEntity<StreamingResponseBody> getProjectByCode(@PathVariable("projectCode") String projectCode, @RequestParam Map<String, String> params) {
+        ProjectDTO project = projectService.getByProjectCode(projectCode);
+        if (project == null) {
+            return ResponseEntity.notFound().build();
+        }
+        FieldSelection selection = FieldSelection.of(FieldSelection.PROJECT, params);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> dtoJsonWriter.writeProject(out, project, selection));
+    }
+
+    @PutMapping("/{projectCode}/complete")
+    public ResponseEntity<ProjectJobDTO> completeProject(@PathVariable("projectCode") String projectCode) {
+        return accepted(projectJobService.submit(JobType.COMPLETE_PROJECT, projectCode));
+    }
+
+    @DeleteMapping("/{projectCode}")
+    public ResponseEntity<ProjectJobDTO> deleteProject(@PathVariable("projectCode") String projectCode) {
+        return accepted(projectJobService.submit(JobType.DELETE_PROJECT, projectCode));
+    }
+
+    private static ResponseEntity<ProjectJobDTO> accepted(ProjectJobDTO job) {
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.accepted().location(URI.create("/api/v1/job/" + job.getId())).body(job);
+    }
+
+
+
+}
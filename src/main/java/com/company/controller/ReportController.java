@@ -0,0 +1,54 @@
+package com.company.controller;
+import com.company.dto.TaskThroughputDTO;
+import com.company.service.TaskThroughputService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+/*
+ * 🖍️...
+ * · Daily throughput and cycle time answered from the task_daily_rollups table.
+ *   Ex: GET /api/v1/report/throughput/project/SP00?from=2022-01-01&to=2022-01-31
+ * · The response has one element per day, so a range longer than report.max-range-days is rejected with 400.
+ */
+@RestController
+@RequestMapping("/api/v1/report")
+public class ReportController {
+    private final TaskThroughputService taskThroughputService;
+    private final long maxRangeDays;
+    public ReportController(TaskThroughputService taskThroughputService, @Value("${report.max-range-days:366}") long maxRangeDays) {
+        this.taskThroughputService = taskThroughputService;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+
+    @GetMapping("/throughput/project/{projectCode}")
+    public ResponseEntity<List<TaskThroughputDTO>> getProjectThroughput(@PathVariable("projectCode") String projectCode,
+                                                                        @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                        @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!isValidRange(from, to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(taskThroughputService.listDailyThroughputByProject(projectCode, from, to));
+    }
+
+    @GetMapping("/throughput/employee/{username}")
+    public ResponseEntity<List<TaskThroughputDTO>> getEmployeeThroughput(@PathVariable("username") String username,
+                                                                         @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                         @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!isValidRange(from, to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(taskThroughputService.listDailyThroughputByEmployee(username, from, to));
+    }
+
+    private boolean isValidRange(LocalDate from, LocalDate to) {
+        return !from.isAfter(to) && ChronoUnit.DAYS.between(from, to) < maxRangeDays;
+    }
+
+
+
+}
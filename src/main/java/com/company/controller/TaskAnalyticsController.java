@@ -0,0 +1,45 @@
+package com.company.controller;
+import com.company.dto.TaskAgeBucketDTO;
+import com.company.enums.Status;
+import com.company.readmodel.TaskReadModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+/*
+ * 🖍️...
+ * · Dashboard aggregates answered from the in-memory TaskReadModel; only registered when task-read-model.enabled=true.
+ *   Ex: GET /api/v1/report/tasks/status/project          → {"1": {"OPEN": 2, "IN_PROGRESS": 1, "COMPLETE": 1}, ...}
+ *       GET /api/v1/report/tasks/status/employee         → the same, by assigned employee id
+ *       GET /api/v1/report/tasks/open-age?projectId=1    → [{"fromDays": 0, "toDays": 1, "taskCount": 3}, ...]
+ */
+@RestController
+@RequestMapping("/api/v1/report/tasks")
+@ConditionalOnProperty(name = "task-read-model.enabled", havingValue = "true")
+public class TaskAnalyticsController {
+    private final TaskReadModel taskReadModel;
+    public TaskAnalyticsController(TaskReadModel taskReadModel) {
+        this.taskReadModel = taskReadModel;
+    }
+
+
+    @GetMapping("/status/project")
+    public ResponseEntity<Map<Long, Map<Status, Integer>>> getStatusCountsByProject() {
+        return ResponseEntity.ok(taskReadModel.countByProjectAndStatus());
+    }
+
+    @GetMapping("/status/employee")
+    public ResponseEntity<Map<Long, Map<Status, Integer>>> getStatusCountsByEmployee() {
+        return ResponseEntity.ok(taskReadModel.countByEmployeeAndStatus());
+    }
+
+    @GetMapping("/open-age")
+    public ResponseEntity<List<TaskAgeBucketDTO>> getOpenTaskAgeDistribution(@RequestParam(value = "projectId", required = false) Long projectId) {
+        return ResponseEntity.ok(taskReadModel.openTaskAgeDistribution(projectId, LocalDate.now()));
+    }
+
+
+
+}
@@ -0,0 +1,75 @@
+package com.company.controller;
+import com.company.dto.TaskAssignmentDTO;
+import com.company.dto.TaskDTO;
+import com.company.dto.TaskFilterDTO;
+import com.company.serializer.DtoJsonWriter;
+import com.company.serializer.FieldSelection;
+import com.company.service.TaskService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.util.List;
+import java.util.Map;
+/*
+ * 🖍️...
+ * · StreamingResponseBody: The response is written by DtoJsonWriter directly into the servlet output stream.
+ * · Request parameters: fields, fields[type], expand (Check FieldSelection class) and shape=normalized.
+ *   Ex: GET /api/v1/task?shape=normalized&fields[user]=id,firstName,lastName&expand=project,assignedEmployee
+ * · /search: Filter (Check TaskFilterDTO class), page, size and sort parameters.
+ *   Ex: GET /api/v1/task/search?assignedEmployeeId=4&taskStatus=OPEN&page=0&size=20&sort=assignedDate,desc
+ */
+@RestController
+@RequestMapping("/api/v1/task")
+public class TaskController {
+    private final TaskService taskService;
+    private final DtoJsonWriter dtoJsonWriter;
+    public TaskController(TaskService taskService, DtoJsonWriter dtoJsonWriter) {
+        this.taskService = taskService;
+        this.dtoJsonWriter = dtoJsonWriter;
+    }
+
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> getTasks(@RequestParam Map<String, String> params) {
+        List<TaskDTO> tasks = taskService.listAllTasks();
+        FieldSelection selection = FieldSelection.of(FieldSelection.TASK, params);
+        boolean normalized = "normalized".equals(params.get("shape"));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> {
+            if (normalized) {
+                dtoJsonWriter.writeTasksNormalized(out, tasks, selection);
+            } else {
+                dtoJsonWriter.writeTasks(out, tasks, selection);
+            }
+        });
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<StreamingResponseBody> searchTasks(TaskFilterDTO filter, Pageable pageable, @RequestParam Map<String, String> params) {
+        Page<TaskDTO> tasks = taskService.filter(filter, pageable);
+        FieldSelection selection = FieldSelection.of(FieldSelection.TASK, params);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> dtoJsonWriter.writeTaskPage(out, tasks, selection));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<StreamingResponseBody> getTaskById(@PathVariable("id") Long id, @RequestParam Map<String, String> params) {
+        TaskDTO task = taskService.findById(id);
+        if (task == null) {
+            return ResponseEntity.notFound().build();
+        }
+        FieldSelection selection = FieldSelection.of(FieldSelection.TASK, params);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> dtoJsonWriter.writeTask(out, task, selection));
+    }
+
+    @PostMapping("/batch/{projectCode}")
+    public ResponseEntity<Map<String, Integer>> assignTasks(@PathVariable("projectCode") String projectCode, @RequestBody List<TaskAssignmentDTO> assignments) {
+        int created = taskService.assignAll(projectCode, assignments);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("created", created));
+    }
+
+
+
+}
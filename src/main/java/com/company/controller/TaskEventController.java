@@ -0,0 +1,49 @@
+package com.company.controller;
+import com.company.dto.UserDTO;
+import com.company.push.TaskEventBroadcaster;
+import com.company.service.UserService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+/*
+ * 🖍️...
+ * · Server-Sent Events: The dashboard opens one long-lived GET request, and the server writes an event to it whenever a task changes.
+ *   Ex: GET /api/v1/task/events/manager/harold@manager.com   → changes of every task in Harold's projects
+ *       GET /api/v1/task/events/employee/john@employee.com   → changes of John's tasks
+ *   event:task
+ *   data:{"type":"STATUS_CHANGED","taskId":12,"projectId":3,"managerId":2,"assignedEmployeeId":4,"previousStatus":"OPEN","taskStatus":"IN_PROGRESS"}
+ * · The browser's EventSource reconnects by itself after an eviction or a timeout; the client reloads its list once after reconnecting.
+ */
+@RestController
+@RequestMapping("/api/v1/task/events")
+public class TaskEventController {
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final UserService userService;
+    public TaskEventController(TaskEventBroadcaster taskEventBroadcaster, UserService userService) {
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.userService = userService;
+    }
+
+
+    @GetMapping(value = "/manager/{username}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeManager(@PathVariable("username") String username) {
+        UserDTO manager = userService.findByUserName(username);
+        if (manager == null || !"Manager".equalsIgnoreCase(manager.getRole().getDescription())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(taskEventBroadcaster.subscribeManager(manager.getId()));
+    }
+
+    @GetMapping(value = "/employee/{username}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeEmployee(@PathVariable("username") String username) {
+        UserDTO employee = userService.findByUserName(username);
+        if (employee == null || !"Employee".equalsIgnoreCase(employee.getRole().getDescription())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(taskEventBroadcaster.subscribeEmployee(employee.getId()));
+    }
+
+
+
+}
@@ -0,0 +1,50 @@
+package com.company.controller;
+import com.company.dto.UserDTO;
+import com.company.serializer.DtoJsonWriter;
+import com.company.serializer.FieldSelection;
+import com.company.service.UserService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/user")
+public class UserController {
+    private final UserService userService;
+    private final DtoJsonWriter dtoJsonWriter;
+    public UserController(UserService userService, DtoJsonWriter dtoJsonWriter) {
+        this.userService = userService;
+        this.dtoJsonWriter = dtoJsonWriter;
+    }
+
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> getUsers(@RequestParam Map<String, String> params) {
+        List<UserDTO> users = userService.listAllUsers();
+        FieldSelection selection = FieldSelection.of(FieldSelection.USER, params);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> dtoJsonWriter.writeUsers(out, users, selection));
+    }
+
+    @GetMapping("/{username}")
+    public ResponseEntity<StreamingResponseBody> getUserByUserName(@PathVariable("username") String username, @RequestParam Map<String, String> params) {
+        UserDTO user = userService.findByUserName(username);
+        if (user == null) {
+            return ResponseEntity.notFound().build();
+        }
+        FieldSelection selection = FieldSelection.of(FieldSelection.USER, params);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out -> dtoJsonWriter.writeUser(out, user, selection));
+    }
+
+    @PostMapping("/login") // Body: {"userName": "...", "passWord": "..."}
+    public ResponseEntity<Void> login(@RequestBody UserDTO credentials) {
+        boolean authenticated = userService.authenticate(credentials.getUserName(), credentials.getPassWord());
+        return ResponseEntity.status(authenticated ? HttpStatus.NO_CONTENT : HttpStatus.UNAUTHORIZED).build();
+    }
+
+
+
+}
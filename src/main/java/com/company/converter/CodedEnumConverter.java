@@ -0,0 +1,29 @@
+package com.company.converter;
+import com.company.enums.CodedEnum;
+import javax.persistence.AttributeConverter;
+/*
+ * 🖍️...
+ * · Stores a CodedEnum as its SMALLINT code. Hibernate applies it to the entity field, to the parameters of the queries
+ *   (Ex: countByProjectIdAndTaskStatusIsNot(id, Status.COMPLETE)) and to the criteria of the filter API (Check TaskSpecifications class).
+ * · Literals in JPQL are not converted: Use the enum constant's full name, Ex: t.taskStatus <> com.company.enums.Status.COMPLETE,
+ *   and the code in native SQL, Ex: t.task_status = 3.
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+    private final Class<E> type;
+
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+    }
+
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short dbData) {
+        return dbData == null ? null : CodedEnum.fromCode(type, dbData);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.company.converter;
+import com.company.enums.Gender;
+import javax.persistence.Converter;
+
+@Converter
+public class GenderConverter extends CodedEnumConverter<Gender> {
+
+    public GenderConverter() {
+        super(Gender.class);
+    }
+
+}
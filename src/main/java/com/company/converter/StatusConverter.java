@@ -0,0 +1,12 @@
+package com.company.converter;
+import com.company.enums.Status;
+import javax.persistence.Converter;
+
+@Converter
+public class StatusConverter extends CodedEnumConverter<Status> {
+
+    public StatusConverter() {
+        super(Status.class);
+    }
+
+}
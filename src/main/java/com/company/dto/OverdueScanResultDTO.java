@@ -0,0 +1,20 @@
+package com.company.dto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class OverdueScanResultDTO {
+
+    private LocalDate scanDate;
+    private boolean resumed;
+    private long scannedProjects;
+    private long overdueProjects;
+    private long updatedTasks;
+    private long durationMillis;
+    private double projectsPerSecond;
+
+}
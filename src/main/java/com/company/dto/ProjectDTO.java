@@ -3,12 +3,13 @@ import com.company.enums.Status;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.io.Serializable;
 import java.time.LocalDate;
 
 @NoArgsConstructor
 @Getter
 @Setter
-public class ProjectDTO {
+public class ProjectDTO implements Serializable { // Cached by value (Check CacheConfiguration class).
 
     private Long id;
     private String projectName;
@@ -18,6 +19,7 @@ public class ProjectDTO {
     private LocalDate endDate;
     private String projectDetail;
     private Status projectStatus;
+    private Boolean overdue;
 
     private int completeTaskCounts;
     private int unfinishedTaskCounts;
@@ -0,0 +1,27 @@
+package com.company.dto;
+import com.company.enums.Status;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDate;
+import java.util.List;
+/*
+ * 🖍️...
+ * · Every field is optional, and the given fields are combined with AND (Check ProjectSpecifications class).
+ *   Ex: /api/v1/project/search?assignedManagerId=2&projectStatus=OPEN&endTo=2022-06-30
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class ProjectFilterDTO {
+
+    private Long assignedManagerId;
+    private String projectCode;
+    private List<Status> projectStatus;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endTo;
+
+}
@@ -0,0 +1,26 @@
+package com.company.dto;
+import com.company.enums.JobStatus;
+import com.company.enums.JobType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class ProjectJobDTO {
+
+    private Long id;
+    private JobType jobType;
+    private JobStatus jobStatus;
+    private String projectCode;
+    private long totalTasks;
+    private long processedTasks;
+    private String errorMessage;
+    private int failedAttempts;
+    private LocalDateTime createdDateTime;
+    private LocalDateTime startedDateTime;
+    private LocalDateTime finishedDateTime;
+
+}
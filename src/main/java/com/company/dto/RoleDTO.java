@@ -2,11 +2,12 @@ package com.company.dto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.io.Serializable;
 
 @NoArgsConstructor
 @Getter
 @Setter
-public class RoleDTO {
+public class RoleDTO implements Serializable { // Cached by value (Check CacheConfiguration class).
 
     private Long id;
     private String description;
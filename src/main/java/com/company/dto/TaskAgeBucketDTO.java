@@ -0,0 +1,17 @@
+package com.company.dto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskAgeBucketDTO {
+
+    private int fromDays;
+    private Integer toDays; // null for the last, open-ended bucket.
+    private int taskCount;
+
+}
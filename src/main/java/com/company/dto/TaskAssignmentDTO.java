@@ -0,0 +1,15 @@
+package com.company.dto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class TaskAssignmentDTO {
+
+    private Long assignedEmployeeId;
+    private String taskSubject;
+    private String taskDetail;
+
+}
@@ -17,5 +17,6 @@ public class TaskDTO {
     private String taskDetail;
     private Status taskStatus;
     private LocalDate assignedDate;
+    private Boolean overdue;
 
 }
@@ -0,0 +1,34 @@
+package com.company.dto;
+import com.company.enums.Status;
+import com.company.enums.TaskChangeType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDate;
+/*
+ * 🖍️...
+ * · A compact description of one committed task change, pushed to the dashboards instead of the whole task list.
+ *   Ex: {"type":"STATUS_CHANGED","taskId":12,"projectId":3,"assignedEmployeeId":6,"previousStatus":"OPEN","taskStatus":"IN_PROGRESS"}
+ * · previousAssignedEmployeeId is only set when the task was moved to another employee, so the previous employee's list drops it.
+ * · managerId is resolved by TaskServiceImpl inside the transaction (from the loaded project, or the cached lookup by project id).
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskDeltaDTO {
+
+    private TaskChangeType type;
+    private Long taskId;
+    private Long projectId;
+    private Long managerId;
+    private Long assignedEmployeeId;
+    private Long previousAssignedEmployeeId;
+    private Status previousStatus;
+    private Status taskStatus;
+    private LocalDate assignedDate;
+
+}
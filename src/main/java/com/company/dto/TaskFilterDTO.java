@@ -0,0 +1,28 @@
+package com.company.dto;
+import com.company.enums.Status;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDate;
+import java.util.List;
+/*
+ * 🖍️...
+ * · Every field is optional, and the given fields are combined with AND (Check TaskSpecifications class).
+ *   Ex: /api/v1/task/search?projectCode=SP00&taskStatus=OPEN,IN_PROGRESS&assignedFrom=2022-01-01&assignedTo=2022-01-31
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class TaskFilterDTO {
+
+    private Long projectId;
+    private String projectCode;
+    private Long assignedEmployeeId;
+    private List<Status> taskStatus;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate assignedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate assignedTo;
+
+}
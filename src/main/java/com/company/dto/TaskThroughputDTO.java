@@ -0,0 +1,18 @@
+package com.company.dto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class TaskThroughputDTO {
+
+    private LocalDate date;
+    private long createdCount;
+    private long completedCount;
+    private long reopenedCount;
+    private Double averageCycleTimeDays; // null when no task was completed that day.
+
+}
@@ -3,11 +3,12 @@ import com.company.enums.Gender;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.io.Serializable;
 
 @NoArgsConstructor
 @Getter
 @Setter
-public class UserDTO {
+public class UserDTO implements Serializable { // Cached by value (Check CacheConfiguration class).
 
     private Long id;
     private String firstName;
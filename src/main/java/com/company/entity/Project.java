@@ -1,4 +1,5 @@
 package com.company.entity;
+import com.company.converter.StatusConverter;
 import com.company.enums.Status;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,7 +9,9 @@ import javax.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = @Index(name = "projects_manager_status_idx", columnList = "manager_id, projectStatus, endDate")) // Check ProjectSpecifications class.
+@NamedEntityGraph(name = "Project.manager", attributeNodes = @NamedAttributeNode(value = "assignedManager", subgraph = "user"),
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role"))) // Check Task entity.
 @NoArgsConstructor
 @Getter
 @Setter
@@ -32,9 +35,12 @@ public class Project extends BaseEntity {
 
     private String projectDetail;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = StatusConverter.class) // SMALLINT code (Check CodedEnum class).
     private Status projectStatus;
 
+    @Column(columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean overdue = false; // Set by OverdueScanServiceImpl: endDate has passed and the project is not complete.
+
 
 
 }
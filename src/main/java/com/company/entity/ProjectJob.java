@@ -0,0 +1,52 @@
+package com.company.entity;
+import com.company.enums.JobStatus;
+import com.company.enums.JobType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import javax.persistence.*;
+import java.time.LocalDateTime;
+/*
+ * 🖍️...
+ * · A bulk project operation that runs in the background (Check ProjectJobServiceImpl class).
+ * · lastProcessedTaskId and processedTasks are saved in the same transaction as each chunk of tasks, so after a restart
+ *   a QUEUED or RUNNING job continues exactly after the last committed chunk.
+ * · projectId is kept because a deleted project can't be found by its code anymore (the code is renamed, and @Where hides it).
+ * · activeProjectId is the projectId while the job is QUEUED or RUNNING, and null after it finished. Its unique constraint allows
+ *   one active job per project even when two submits race; like a partial unique index on (project_id) WHERE the job is active,
+ *   which H2 (the "test" profile) doesn't have. Several nulls never collide.
+ * · failedAttempts: How often the job failed and was left for a retry; errorMessage is the last failure until it finished.
+ * · leaseOwner / leaseExpiresAt: The instance that runs the job, renewed with every chunk (Check ProjectJobRepository class).
+ */
+@Entity
+@Table(name = "project_jobs", uniqueConstraints = @UniqueConstraint(name = "uk_project_jobs_active_project_id", columnNames = "activeProjectId"))
+@NoArgsConstructor
+@Getter
+@Setter
+public class ProjectJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    private JobStatus jobStatus;
+
+    private String projectCode;
+    private Long projectId;
+    private Long activeProjectId;
+    private long totalTasks;
+    private long processedTasks;
+    private long lastProcessedTaskId;
+    private String errorMessage;
+    private int failedAttempts;
+    private LocalDateTime createdDateTime;
+    private LocalDateTime startedDateTime;
+    private LocalDateTime finishedDateTime;
+    private String leaseOwner;
+    private LocalDateTime leaseExpiresAt;
+
+}
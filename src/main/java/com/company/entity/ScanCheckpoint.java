@@ -0,0 +1,36 @@
+package com.company.entity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+/*
+ * 🖍️...
+ * · Progress of a chunked scan (Ex: OverdueScanServiceImpl), saved after every wave of chunks.
+ * · If the application stops in the middle of a run, completed is false, and the next run continues after lastProcessedId
+ *   with the same scanDate, instead of starting from the first project.
+ * · leaseOwner / leaseExpiresAt: The instance that is running the scan, until when (Check ScanCheckpointRepository.claimLease()).
+ *   null when no instance is running it.
+ */
+@Entity
+@Table(name = "scan_checkpoints")
+@NoArgsConstructor
+@Getter
+@Setter
+public class ScanCheckpoint {
+
+    @Id
+    private String scanName;
+
+    private Long lastProcessedId;
+
+    @Column(columnDefinition = "DATE")
+    private LocalDate scanDate;
+
+    private LocalDateTime runStartDateTime;
+    private boolean completed;
+    private String leaseOwner;
+    private LocalDateTime leaseExpiresAt;
+
+}
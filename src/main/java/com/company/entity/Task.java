@@ -1,4 +1,5 @@
 package com.company.entity;
+import com.company.converter.StatusConverter;
 import com.company.enums.Status;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -7,8 +8,20 @@ import org.hibernate.annotations.Where;
 import javax.persistence.*;
 import java.time.LocalDate;
 
+/*
+ * 🖍️...
+ * · @NamedEntityGraph: Repository methods annotated with @EntityGraph("Task.details") load the project, its manager, the assigned
+ *   employee and their roles in the same SELECT (with joins), so mapping a list of tasks to DTOs doesn't run a query per task (N+1).
+ * · The two indexes are the access paths of the task filter API: a filter needs the project or the employee, then the status and
+ *   the assigned date range narrow the same index (Check TaskSpecifications class). columnList takes logical column names.
+ */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {@Index(name = "tasks_project_status_idx", columnList = "project_id, taskStatus, assignedDate"),
+                                  @Index(name = "tasks_employee_status_idx", columnList = "assigned_employee_id, taskStatus, assignedDate")})
+@NamedEntityGraph(name = "Task.details",
+        attributeNodes = {@NamedAttributeNode(value = "project", subgraph = "project"), @NamedAttributeNode(value = "assignedEmployee", subgraph = "user")},
+        subgraphs = {@NamedSubgraph(name = "project", attributeNodes = @NamedAttributeNode(value = "assignedManager", subgraph = "user")),
+                     @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role"))})
 @NoArgsConstructor
 @Getter
 @Setter
@@ -18,7 +31,7 @@ public class Task extends BaseEntity {
     private String taskSubject;
     private String taskDetail;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = StatusConverter.class) // SMALLINT code (Check CodedEnum class).
     private Status taskStatus;
 
     @Column(columnDefinition = "DATE")
@@ -30,6 +43,9 @@ public class Task extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private Project project;
 
+    @Column(columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean overdue = false; // Set by OverdueScanServiceImpl: the project is overdue and the task is not complete.
+
 }
 
 
@@ -0,0 +1,42 @@
+package com.company.entity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import javax.persistence.*;
+import java.time.LocalDate;
+/*
+ * 🖍️...
+ * · Pre-aggregated task counters for one day, one project and one employee. Rows are maintained incrementally by
+ *   TaskDailyRollupRepository.increment() (INSERT ... ON CONFLICT DO UPDATE), so reports never scan the tasks table.
+ * · cycleTimeDays is the sum of (completion day - assignedDate) of the tasks completed that day.
+ *   Average cycle time of a day = cycleTimeDays / completedCount.
+ * · It does not extend BaseEntity, because rows are only written by the native upsert query.
+ */
+@Entity
+@Table(name = "task_daily_rollups",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"rollupDate", "projectId", "employeeId"}),
+        indexes = {@Index(columnList = "projectId, rollupDate"), @Index(columnList = "employeeId, rollupDate")})
+@NoArgsConstructor
+@Getter
+@Setter
+public class TaskDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(columnDefinition = "DATE", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    private long createdCount;
+    private long completedCount;
+    private long reopenedCount;
+    private long cycleTimeDays;
+
+}
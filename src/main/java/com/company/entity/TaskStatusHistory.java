@@ -0,0 +1,34 @@
+package com.company.entity;
+import com.company.converter.StatusConverter;
+import com.company.enums.Status;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import javax.persistence.*;
+import java.time.LocalDateTime;
+/*
+ * 🖍️...
+ * · One row per task status transition (Ex: OPEN -> IN_PROGRESS). It is written from the TaskServiceImpl save/update paths.
+ * · fromStatus is null for a newly created task.
+ * · projectId and employeeId are copied from the task, so history can be read without joining the tasks table.
+ */
+@Entity
+@Table(name = "task_status_histories", indexes = @Index(columnList = "taskId"))
+@NoArgsConstructor
+@Getter
+@Setter
+public class TaskStatusHistory extends BaseEntity {
+
+    private Long taskId;
+    private Long projectId;
+    private Long employeeId;
+
+    @Convert(converter = StatusConverter.class)
+    private Status fromStatus;
+
+    @Convert(converter = StatusConverter.class)
+    private Status toStatus;
+
+    private LocalDateTime transitionDateTime;
+
+}
@@ -1,4 +1,5 @@
 package com.company.entity;
+import com.company.converter.GenderConverter;
 import com.company.enums.Gender;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -34,7 +35,7 @@ public class User extends BaseEntity {
     @JoinColumn(name = "role_id")
     private Role role;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = GenderConverter.class) // SMALLINT code (Check CodedEnum class).
     private Gender gender;
 
 
@@ -0,0 +1,23 @@
+package com.company.enums;
+/*
+ * 🖍️...
+ * · An enum that is stored as a SMALLINT code instead of its name (Check CodedEnumConverter class).
+ *   VARCHAR 'IN_PROGRESS' takes 12 bytes in a row and in every index entry; a SMALLINT takes 2.
+ * · The code table is fixed: A new constant gets a new code, and a code is never reused or renumbered.
+ *   Not ordinal(): Inserting or reordering a constant would silently change the meaning of the stored rows.
+ * · Status: OPEN = 1, IN_PROGRESS = 2, COMPLETE = 3     Gender: MALE = 1, FEMALE = 2
+ */
+public interface CodedEnum {
+
+    short getCode();
+
+    static <E extends Enum<E> & CodedEnum> E fromCode(Class<E> type, short code) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.getCode() == code) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code: " + code);
+    }
+
+}
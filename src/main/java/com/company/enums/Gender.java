@@ -1,14 +1,23 @@
 package com.company.enums;
 
-public enum Gender { // · To create an enum with space, we use the below method. Ex: STATUS("IN PROGRESS")
+public enum Gender implements CodedEnum { // · To create an enum with space, we use the below method. Ex: STATUS("IN PROGRESS")
 
-    MALE("Male"), FEMALE("Female");
+    MALE(1, "Male"), FEMALE(2, "Female");
+    private final short code;
     private final String value;
-    Gender(String value) {
+    Gender(int code, String value) {
+        this.code = (short) code;
         this.value = value;
     }
     public String getValue() {
         return value;
     }
+    @Override
+    public short getCode() {
+        return code;
+    }
+    public static Gender fromCode(short code) {
+        return CodedEnum.fromCode(Gender.class, code);
+    }
 
 }
@@ -0,0 +1,14 @@
+package com.company.enums;
+
+public enum JobStatus {
+
+    QUEUED("Queued"), RUNNING("Running"), SUCCEEDED("Succeeded"), FAILED("Failed");
+    private final String value;
+    JobStatus(String value) {
+        this.value = value;
+    }
+    public String getValue() {
+        return value;
+    }
+
+}
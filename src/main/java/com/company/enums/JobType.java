@@ -0,0 +1,14 @@
+package com.company.enums;
+
+public enum JobType { // · Bulk project operations that run as a ProjectJob (Check ProjectJobServiceImpl class).
+
+    COMPLETE_PROJECT("Complete Project"), DELETE_PROJECT("Delete Project");
+    private final String value;
+    JobType(String value) {
+        this.value = value;
+    }
+    public String getValue() {
+        return value;
+    }
+
+}
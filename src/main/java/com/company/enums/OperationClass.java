@@ -0,0 +1,14 @@
+package com.company.enums;
+
+public enum OperationClass { // · Service operations are grouped by their cost, and every group gets its own bulkhead.
+
+    HEAVY_READ("Heavy Read"), BULK_WRITE("Bulk Write");
+    private final String value;
+    OperationClass(String value) {
+        this.value = value;
+    }
+    public String getValue() {
+        return value;
+    }
+
+}
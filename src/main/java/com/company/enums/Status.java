@@ -1,14 +1,23 @@
 package com.company.enums;
 
-public enum Status {
+public enum Status implements CodedEnum { // · code: The stored value (SMALLINT). It must never change once rows are written (Check CodedEnum class).
 
-    OPEN("Open"), IN_PROGRESS("In Progress"), COMPLETE("Completed");
+    OPEN(1, "Open"), IN_PROGRESS(2, "In Progress"), COMPLETE(3, "Completed");
+    private final short code;
     private final String value;
-    Status(String value) {
+    Status(int code, String value) {
+        this.code = (short) code;
         this.value = value;
     }
     public String getValue() {
         return value;
     }
+    @Override
+    public short getCode() {
+        return code;
+    }
+    public static Status fromCode(short code) {
+        return CodedEnum.fromCode(Status.class, code);
+    }
 
 }
@@ -0,0 +1,14 @@
+package com.company.enums;
+
+public enum TaskChangeType { // · The kind of change a TaskDeltaDTO describes (Check TaskEventBroadcaster class).
+
+    CREATED("Created"), UPDATED("Updated"), STATUS_CHANGED("Status Changed"), DELETED("Deleted");
+    private final String value;
+    TaskChangeType(String value) {
+        this.value = value;
+    }
+    public String getValue() {
+        return value;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.company.exception;
+
+public class TaskAssignmentException extends RuntimeException {
+
+    public TaskAssignmentException(String message) {
+        super(message);
+    }
+
+}
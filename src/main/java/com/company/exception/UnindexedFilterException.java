@@ -0,0 +1,9 @@
+package com.company.exception;
+
+public class UnindexedFilterException extends RuntimeException {
+
+    public UnindexedFilterException(String message) {
+        super(message);
+    }
+
+}
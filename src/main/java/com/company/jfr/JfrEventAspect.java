@@ -0,0 +1,112 @@
+package com.company.jfr;
+import com.company.mapper.MapperUtil;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.stereotype.Component;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+/*
+ * 🖍️...
+ * · Wraps every *ServiceImpl method, every repository method and every *Mapper / MapperUtil conversion in a JFR event, so a
+ *   recording shows which business operation a slow ModelMapper or Hibernate frame belongs to.
+ *   Ex: jcmd <pid> JFR.start name=ticketing duration=5m   or   jfr.recording.enabled=true (Check JfrRecording class)
+ * · Overhead when no recording is running: isEnabled() is false, and the call goes straight to proceed().
+ *   When one is running, only the events over their threshold are filled in (shouldCommit()) and written.
+ * · The advice works only through the Spring proxy, so a call from the same class (Ex: this.findByUserName()) isn't an event of its own.
+ * · rowCount: The rows a call returned, or changed for a @Modifying query. A count query returns one row, not the count.
+ * · @Order(-1): Runs before BulkheadAspect (0) and the transaction advice, so a service event includes the bulkhead wait and the commit.
+ */
+@Aspect
+@Component
+@Order(-1)
+@ConditionalOnProperty(name = "jfr.events.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrEventAspect {
+    private final Map<Class<?>, Class<?>> repositoryInterfaces = new ConcurrentHashMap<>();
+
+
+    @Around("execution(public * com.company.service.impl.*ServiceImpl.*(..))")
+    public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new ServiceCallEvent(), joinPoint, joinPoint.getTarget().getClass(), "ServiceImpl");
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new RepositoryQueryEvent(), joinPoint, repositoryInterface(joinPoint.getThis().getClass()), "Repository");
+    }
+
+    @Around("execution(public * com.company.mapper.*Mapper.*(..)) || execution(public * com.company.mapper.MapperUtil.*(..))")
+    public Object mapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new MappingEvent(), joinPoint, joinPoint.getTarget().getClass(), "Mapper");
+    }
+
+    private Object record(OperationEvent event, ProceedingJoinPoint joinPoint, Class<?> owner, String suffix) throws Throwable {
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = owner.getSimpleName() + "." + joinPoint.getSignature().getName();
+                event.entityType = entityType(owner, suffix, joinPoint.getArgs());
+                event.rowCount = rowCount(result, ((MethodSignature) joinPoint.getSignature()).getMethod());
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private Class<?> repositoryInterface(Class<?> proxyClass) { // A repository is a JDK proxy: Its own interface is the one in com.company.repository.
+        return repositoryInterfaces.computeIfAbsent(proxyClass, key -> {
+            for (Class<?> anInterface : key.getInterfaces()) {
+                if (anInterface.getPackageName().equals("com.company.repository")) {
+                    return anInterface;
+                }
+            }
+            return key;
+        });
+    }
+
+    private static String entityType(Class<?> owner, String suffix, Object[] args) { // TaskServiceImpl → Task, TaskRepository → Task
+        if (owner == MapperUtil.class) {
+            return args.length == 2 && args[1] != null ? args[1].getClass().getSimpleName() : null; // convert(role, new RoleDTO()) → RoleDTO
+        }
+        String name = owner.getSimpleName();
+        return name.endsWith(suffix) ? name.substring(0, name.length() - suffix.length()) : name;
+    }
+
+    static int rowCount(Object result, Method method) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Page) {
+            return ((Page<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (method.isAnnotationPresent(Modifying.class) && result instanceof Number) { // The rows it changed.
+            return ((Number) result).intValue();
+        }
+        return 1; // Also a count, Ex: countByProjectId() → 1 row, whatever it counted.
+    }
+
+}
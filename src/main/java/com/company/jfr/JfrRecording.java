@@ -0,0 +1,57 @@
+package com.company.jfr;
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+/*
+ * 🖍️...
+ * · A continuous recording of the Ticketing events (Check JfrEventAspect class), started by the application itself, so no
+ *   -XX:StartFlightRecording flag or external agent is needed. Off by default (jfr.recording.enabled).
+ * · Thresholds: The @Threshold of each event class is the default of any recording; these properties override it for this one.
+ *   Ex: jfr.thresholds.service=0ms records every service call.
+ * · The recording keeps the last jfr.recording.max-age / max-size on disk (a ring buffer), and writes it to dump-path at shutdown.
+ *   While running: jcmd <pid> JFR.dump name=ticketing filename=now.jfr
+ */
+@Component
+@ConditionalOnProperty(name = "jfr.recording.enabled", havingValue = "true")
+public class JfrRecording {
+    public static final String NAME = "ticketing";
+
+    private final Recording recording = new Recording();
+    private final Path dumpPath;
+
+    public JfrRecording(@Value("${jfr.thresholds.service:20ms}") Duration serviceThreshold,
+                        @Value("${jfr.thresholds.repository:10ms}") Duration repositoryThreshold,
+                        @Value("${jfr.thresholds.mapping:1ms}") Duration mappingThreshold,
+                        @Value("${jfr.recording.max-age:6h}") Duration maxAge,
+                        @Value("${jfr.recording.max-size:100MB}") DataSize maxSize,
+                        @Value("${jfr.recording.dump-path:ticketing.jfr}") Path dumpPath) {
+        this.dumpPath = dumpPath;
+        recording.setName(NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.enable(ServiceCallEvent.class).withThreshold(serviceThreshold).withoutStackTrace();
+        recording.enable(RepositoryQueryEvent.class).withThreshold(repositoryThreshold).withoutStackTrace();
+        recording.enable(MappingEvent.class).withThreshold(mappingThreshold).withoutStackTrace();
+    }
+
+
+    @PostConstruct
+    public void start() {
+        recording.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        recording.dump(dumpPath);
+        recording.close();
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.company.jfr;
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.company.Mapping")
+@Label("Mapping")
+@Category({"Ticketing", "Mapper"})
+@Threshold("1 ms")
+public class MappingEvent extends OperationEvent {
+}
@@ -0,0 +1,32 @@
+package com.company.jfr;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+/*
+ * 🖍️...
+ * · Base class of the custom Java Flight Recorder events (Check JfrEventAspect class). JFR records the fields of the super classes too.
+ * · @StackTrace(false): A stack trace is the most expensive part of an event, and the operation field already tells where it happened.
+ *   Together with the @Threshold of each event (only slow calls are written), the events can stay on in production.
+ */
+@Category("Ticketing")
+@StackTrace(false)
+public abstract class OperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("Class and method. Ex: TaskServiceImpl.listAllTasksByStatus")
+    String operation;
+
+    @Label("Entity Type")
+    @Description("Ex: Task, Project, User")
+    String entityType;
+
+    @Label("Row Count")
+    @Description("Elements of the returned collection or page, the rows changed by a modifying query, 1 for a single object or value (also a count), 0 for none")
+    int rowCount;
+
+    @Label("Failed")
+    @Description("The call threw an exception")
+    boolean failed;
+
+}
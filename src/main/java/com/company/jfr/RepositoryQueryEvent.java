@@ -0,0 +1,12 @@
+package com.company.jfr;
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.company.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Ticketing", "Repository"})
+@Threshold("10 ms")
+public class RepositoryQueryEvent extends OperationEvent {
+}
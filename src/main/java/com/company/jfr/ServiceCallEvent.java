@@ -0,0 +1,12 @@
+package com.company.jfr;
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.company.ServiceCall")
+@Label("Service Call")
+@Category({"Ticketing", "Service"})
+@Threshold("20 ms")
+public class ServiceCallEvent extends OperationEvent {
+}
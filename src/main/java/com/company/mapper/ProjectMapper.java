@@ -1,20 +1,31 @@
 package com.company.mapper;
 import com.company.dto.ProjectDTO;
 import com.company.entity.Project;
+import com.company.entity.User;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
-
+import javax.persistence.EntityManager;
+/*
+ * 🖍️...
+ * · assignedManager is set as an id-only reference with EntityManager.getReference(), same as in TaskMapper.
+ */
 @Component
 public class ProjectMapper {
     private final ModelMapper modelMapper;
+    private final EntityManager entityManager;
 
-    public ProjectMapper(ModelMapper modelMapper) {
+    public ProjectMapper(ModelMapper modelMapper, EntityManager entityManager) {
         this.modelMapper = modelMapper;
+        this.entityManager = entityManager;
+        modelMapper.emptyTypeMap(ProjectDTO.class, Project.class).addMappings(mapper -> mapper.skip(Project::setAssignedManager)).implicitMappings();
     }
 
 
     public Project convertToEntity(ProjectDTO dto){
-        return modelMapper.map(dto,Project.class);
+        Project project = modelMapper.map(dto,Project.class);
+        project.setAssignedManager(dto.getAssignedManager() == null || dto.getAssignedManager().getId() == null
+                ? null : entityManager.getReference(User.class, dto.getAssignedManager().getId()));
+        return project;
     }
 
     public ProjectDTO convertToDto(Project entity){
@@ -26,4 +37,5 @@ public class ProjectMapper {
 
 
 
+
 }
@@ -1,25 +1,53 @@
 package com.company.mapper;
+import com.company.dto.ProjectDTO;
 import com.company.dto.TaskDTO;
+import com.company.dto.UserDTO;
+import com.company.entity.Project;
 import com.company.entity.Task;
+import com.company.entity.User;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
-
+import javax.persistence.EntityManager;
+/*
+ * 🖍️...
+ * · convertToEntity() doesn't build new Project and User objects from the nested DTOs. The project and assignedEmployee
+ *   fields are skipped by ModelMapper, and set as id-only references with EntityManager.getReference().
+ * · getReference() returns a proxy that holds only the id, without running a SELECT. When the task is saved, Hibernate
+ *   writes only the foreign key, and nothing of the referenced project or user can be overwritten.
+ */
 @Component
 public class TaskMapper {
     private final ModelMapper modelMapper;
-    public TaskMapper(ModelMapper modelMapper) {
+    private final EntityManager entityManager;
+    public TaskMapper(ModelMapper modelMapper, EntityManager entityManager) {
         this.modelMapper = modelMapper;
+        this.entityManager = entityManager;
+        modelMapper.emptyTypeMap(TaskDTO.class, Task.class).addMappings(mapper -> {
+            mapper.skip(Task::setProject);
+            mapper.skip(Task::setAssignedEmployee);
+        }).implicitMappings();
     }
 
 
     public Task convertToEntity(TaskDTO dto){
-        return modelMapper.map(dto,Task.class);
+        Task task = modelMapper.map(dto,Task.class);
+        task.setProject(toReference(dto.getProject()));
+        task.setAssignedEmployee(toReference(dto.getAssignedEmployee()));
+        return task;
     }
 
     public TaskDTO convertToDTO(Task entity){
         return modelMapper.map(entity,TaskDTO.class);
     }
 
+    private Project toReference(ProjectDTO dto) {
+        return dto == null || dto.getId() == null ? null : entityManager.getReference(Project.class, dto.getId());
+    }
+
+    private User toReference(UserDTO dto) {
+        return dto == null || dto.getId() == null ? null : entityManager.getReference(User.class, dto.getId());
+    }
+
 
 
 }
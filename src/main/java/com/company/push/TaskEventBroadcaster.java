@@ -0,0 +1,145 @@
+package com.company.push;
+import com.company.dto.TaskDeltaDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+/*
+ * 🖍️...
+ * · Pushes TaskDeltaDTOs to the SSE subscribers of a manager (all the tasks of their projects) and of an employee (their own tasks),
+ *   so the dashboards don't poll listAllProjectDetails() / listAllTasksByStatus() anymore.
+ * · @TransactionalEventListener: TaskServiceImpl publishes the delta inside its transaction, and it is delivered here only
+ *   after the commit (phase = AFTER_COMMIT by default). A rolled back change is never pushed.
+ * · Fan-out: The delta is serialized once, then only offered to the buffers of the matching subscribers (two map lookups);
+ *   the sending happens on a small dispatcher pool (Check TaskEventSubscriber class). Thousands of idle subscribers cost no threads.
+ * · The delta already carries the manager id (resolved inside the transaction), so the after-commit listener runs no query.
+ * · Single node only: The subscriber maps live in this JVM, and a delta is published only in the instance whose transaction
+ *   committed it. Behind a load balancer with more than one instance, a dashboard misses the changes made through the other
+ *   instances; the deltas would have to be fanned out first (Ex: NOTIFY, like PostgresCacheInvalidationTransport does).
+ * · Metrics: task.events.subscribers, task.events.evictions.
+ */
+@Component
+public class TaskEventBroadcaster {
+    private final Map<Long, Set<TaskEventSubscriber>> managerSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<TaskEventSubscriber>> employeeSubscribers = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final ExecutorService dispatcher;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Counter evictions;
+
+    public TaskEventBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                @Value("${task-events.buffer-size:64}") int bufferSize,
+                                @Value("${task-events.timeout:30m}") Duration timeout,
+                                @Value("${task-events.dispatcher-threads:2}") int dispatcherThreads) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads);
+        this.evictions = meterRegistry.counter("task.events.evictions");
+        Gauge.builder("task.events.subscribers", this, TaskEventBroadcaster::subscriberCount).register(meterRegistry);
+    }
+
+
+    public SseEmitter subscribeManager(Long managerId) {
+        return subscribeManager(managerId, new SseEmitter(timeout.toMillis()));
+    }
+
+    public SseEmitter subscribeEmployee(Long employeeId) {
+        return subscribeEmployee(employeeId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribeManager(Long managerId, SseEmitter emitter) { // The tests pass an emitter that records the sends.
+        return subscribe(managerSubscribers, managerId, emitter);
+    }
+
+    SseEmitter subscribeEmployee(Long employeeId, SseEmitter emitter) {
+        return subscribe(employeeSubscribers, employeeId, emitter);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskDeltaDTO delta) {
+        if (managerSubscribers.isEmpty() && employeeSubscribers.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Task delta could not be serialized.", e);
+        }
+        publish(managerSubscribers, delta.getManagerId(), json);
+        publish(employeeSubscribers, delta.getAssignedEmployeeId(), json);
+        publish(employeeSubscribers, delta.getPreviousAssignedEmployeeId(), json);
+    }
+
+    @Scheduled(fixedDelayString = "${task-events.heartbeat-interval:PT25S}")
+    public void sendHeartbeats() {
+        managerSubscribers.values().forEach(subscribers -> publish(subscribers, TaskEventSubscriber.HEARTBEAT));
+        employeeSubscribers.values().forEach(subscribers -> publish(subscribers, TaskEventSubscriber.HEARTBEAT));
+    }
+
+    public int subscriberCount() {
+        return managerSubscribers.values().stream().mapToInt(Set::size).sum()
+                + employeeSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        managerSubscribers.values().forEach(subscribers -> subscribers.forEach(TaskEventSubscriber::close));
+        employeeSubscribers.values().forEach(subscribers -> subscribers.forEach(TaskEventSubscriber::close));
+        dispatcher.shutdownNow();
+    }
+
+    private SseEmitter subscribe(Map<Long, Set<TaskEventSubscriber>> subscribersById, Long id, SseEmitter emitter) {
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(emitter, bufferSize, dispatcher, closed -> unsubscribe(subscribersById, id, closed));
+        subscribersById.compute(id, (key, subscribers) -> { // compute() instead of computeIfAbsent().add(): unsubscribe() may drop an empty set at the same time.
+            Set<TaskEventSubscriber> set = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            set.add(subscriber);
+            return set;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        return emitter;
+    }
+
+    private void unsubscribe(Map<Long, Set<TaskEventSubscriber>> subscribersById, Long id, TaskEventSubscriber subscriber) {
+        subscribersById.computeIfPresent(id, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void publish(Map<Long, Set<TaskEventSubscriber>> subscribersById, Long id, String json) {
+        if (id != null) { // An unassigned task, or a project without a manager: ConcurrentHashMap.get(null) throws.
+            publish(subscribersById.get(id), json);
+        }
+    }
+
+    private void publish(Set<TaskEventSubscriber> subscribers, String json) {
+        if (subscribers == null) {
+            return;
+        }
+        for (TaskEventSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(json)) { // Slow consumer: its buffer is full.
+                evictions.increment();
+                subscriber.close();
+            }
+        }
+    }
+
+}
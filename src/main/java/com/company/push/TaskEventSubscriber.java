@@ -0,0 +1,87 @@
+package com.company.push;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+/*
+ * 🖍️...
+ * · One SSE connection. Deltas are offered to a bounded queue and sent by the dispatcher pool, so a slow client never blocks
+ *   the thread that committed the change, and an idle subscriber holds no thread at all (only its emitter and an empty queue).
+ * · At most one dispatcher thread drains a subscriber at a time (draining flag), because SseEmitter.send() is not thread-safe
+ *   for concurrent callers. Heartbeats go through the same queue for the same reason.
+ * · A full queue means the client reads slower than the changes arrive: offer() returns false and the subscriber is evicted.
+ *   The client reconnects and reloads its list once, instead of the server buffering without limit.
+ */
+class TaskEventSubscriber {
+    static final String HEARTBEAT = ""; // Sent as an SSE comment line; it keeps proxies from closing the idle connection and detects dead clients.
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<String> queue;
+    private final Executor dispatcher;
+    private final Consumer<TaskEventSubscriber> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    TaskEventSubscriber(SseEmitter emitter, int bufferSize, Executor dispatcher, Consumer<TaskEventSubscriber> onClose) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.dispatcher = dispatcher;
+        this.onClose = onClose;
+    }
+
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /** Returns false only when the buffer is full (slow consumer). */
+    boolean offer(String json) {
+        if (closed.get()) {
+            return true;
+        }
+        if (!queue.offer(json)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            onClose.accept(this);
+            emitter.complete();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            String json;
+            while (!closed.get() && (json = queue.poll()) != null) {
+                if (json.isEmpty()) { // HEARTBEAT
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send(SseEmitter.event().name("task").data(json, MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) { // The client went away, or the emitter already timed out.
+            close();
+        } finally {
+            draining.set(false);
+        }
+        if (!closed.get() && !queue.isEmpty()) { // A delta offered after the last poll() but before draining was reset.
+            scheduleDrain();
+        }
+    }
+
+}
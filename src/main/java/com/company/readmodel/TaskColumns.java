@@ -0,0 +1,187 @@
+package com.company.readmodel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+/*
+ * 🖍️...
+ * · Column-oriented storage of tasks: One primitive array per column instead of one object per task.
+ *   ids long[] (sorted) · statuses byte[] (Status ordinal) · projects int[] and employees int[] (dictionary indexes) · assignedDays int[] (epoch day)
+ *   That is 21 bytes per task, with no object headers or pointers, and an aggregate is a single pass over a few arrays.
+ * · ids are kept sorted, so a task is found by binary search without an id → row map. New tasks have the highest ids and are
+ *   appended; only an out-of-order commit shifts the tail.
+ * · A deleted task becomes a tombstone (status DELETED) and the arrays are compacted when a quarter of the rows are tombstones.
+ * · Not thread-safe: TaskReadModel guards it with a read-write lock.
+ */
+class TaskColumns {
+    static final byte DELETED = -1;
+    static final int NONE = -1; // Dictionary index of a missing employee.
+    private static final int NO_DAY = Integer.MIN_VALUE;
+
+    private long[] ids;
+    private byte[] statuses;
+    private int[] projects;
+    private int[] employees;
+    private int[] assignedDays;
+    private int size;
+    private int tombstones;
+    private final Dictionary projectDictionary = new Dictionary();
+    private final Dictionary employeeDictionary = new Dictionary();
+
+    TaskColumns(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        ids = new long[capacity];
+        statuses = new byte[capacity];
+        projects = new int[capacity];
+        employees = new int[capacity];
+        assignedDays = new int[capacity];
+    }
+
+
+    void upsert(long id, long projectId, Long employeeId, byte status, Long assignedEpochDay) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0) {
+            row = -row - 1;
+            insertRowAt(row);
+            ids[row] = id;
+        } else if (statuses[row] == DELETED) {
+            tombstones--;
+        }
+        statuses[row] = status;
+        projects[row] = projectDictionary.indexOf(projectId);
+        employees[row] = employeeId == null ? NONE : employeeDictionary.indexOf(employeeId);
+        assignedDays[row] = assignedEpochDay == null ? NO_DAY : Math.toIntExact(assignedEpochDay);
+    }
+
+    void remove(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0 || statuses[row] == DELETED) {
+            return;
+        }
+        statuses[row] = DELETED;
+        tombstones++;
+        if (tombstones > size / 4) {
+            compact();
+        }
+    }
+
+    int size() {
+        return size - tombstones;
+    }
+
+    long heapBytes() {
+        return ids.length * (long) (Long.BYTES + Byte.BYTES + 3 * Integer.BYTES);
+    }
+
+    Dictionary projects() {
+        return projectDictionary;
+    }
+
+    Dictionary employees() {
+        return employeeDictionary;
+    }
+
+    /** counts[dictionary index][status ordinal], by project (byProject) or by employee. */
+    int[][] countByStatus(boolean byProject, int statusCount) {
+        int[] keys = byProject ? projects : employees;
+        int[][] counts = new int[(byProject ? projectDictionary : employeeDictionary).size()][statusCount];
+        for (int row = 0; row < size; row++) {
+            byte status = statuses[row];
+            int key = keys[row];
+            if (status != DELETED && key != NONE) {
+                counts[key][status]++;
+            }
+        }
+        return counts;
+    }
+
+    /** Tasks whose status is not excludedStatus, per age bucket: age <= upperBounds[i] days, and a last bucket for the rest. */
+    int[] ageHistogram(int todayEpochDay, int[] upperBounds, byte excludedStatus, int projectIndex) {
+        int[] histogram = new int[upperBounds.length + 1];
+        for (int row = 0; row < size; row++) {
+            byte status = statuses[row];
+            if (status == DELETED || status == excludedStatus || assignedDays[row] == NO_DAY
+                    || (projectIndex != NONE && projects[row] != projectIndex)) {
+                continue;
+            }
+            int age = todayEpochDay - assignedDays[row];
+            int bucket = 0;
+            while (bucket < upperBounds.length && age > upperBounds[bucket]) {
+                bucket++;
+            }
+            histogram[bucket]++;
+        }
+        return histogram;
+    }
+
+    private void insertRowAt(int row) {
+        if (size == ids.length) {
+            int capacity = size + (size >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            projects = Arrays.copyOf(projects, capacity);
+            employees = Arrays.copyOf(employees, capacity);
+            assignedDays = Arrays.copyOf(assignedDays, capacity);
+        }
+        int tail = size - row;
+        if (tail > 0) {
+            System.arraycopy(ids, row, ids, row + 1, tail);
+            System.arraycopy(statuses, row, statuses, row + 1, tail);
+            System.arraycopy(projects, row, projects, row + 1, tail);
+            System.arraycopy(employees, row, employees, row + 1, tail);
+            System.arraycopy(assignedDays, row, assignedDays, row + 1, tail);
+        }
+        size++;
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int row = 0; row < size; row++) {
+            if (statuses[row] == DELETED) {
+                continue;
+            }
+            ids[target] = ids[row];
+            statuses[target] = statuses[row];
+            projects[target] = projects[row];
+            employees[target] = employees[row];
+            assignedDays[target] = assignedDays[row];
+            target++;
+        }
+        size = target;
+        tombstones = 0;
+    }
+
+    /*
+     * · Maps a project or user id to a small dense index (0, 1, 2, ...), which is what the int columns store.
+     *   There are only as many entries as projects / employees, so the boxed map is not the per-task cost.
+     */
+    static class Dictionary {
+        private final Map<Long, Integer> indexes = new HashMap<>();
+        private long[] values = new long[16];
+
+        int indexOf(long value) {
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = indexes.size();
+                if (index == values.length) {
+                    values = Arrays.copyOf(values, index * 2);
+                }
+                values[index] = value;
+                indexes.put(value, index);
+            }
+            return index;
+        }
+
+        int find(long value) {
+            return indexes.getOrDefault(value, NONE);
+        }
+
+        long valueAt(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return indexes.size();
+        }
+    }
+
+}
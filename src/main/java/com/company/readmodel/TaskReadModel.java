@@ -0,0 +1,206 @@
+package com.company.readmodel;
+import com.company.dto.TaskAgeBucketDTO;
+import com.company.dto.TaskDeltaDTO;
+import com.company.enums.Status;
+import com.company.enums.TaskChangeType;
+import com.company.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+/*
+ * 🖍️...
+ * · An optional in-memory copy of the tasks for dashboard aggregates (task-read-model.enabled=true), stored in TaskColumns.
+ *   Ex: status counts per project or per employee, and the age distribution of the open tasks, in microseconds without a query.
+ * · Loaded once when the application is ready (one streamed SELECT of five columns), then kept current from the same
+ *   TaskDeltaDTOs that TaskServiceImpl publishes for the SSE push, after each commit.
+ * · Deltas that commit while the table is being loaded are buffered and applied after the load. Applying a delta is an
+ *   upsert by task id, so a delta that is already in the loaded rows is harmless.
+ * · The deltas only come from this instance's own transactions. The changes committed by other instances, or by SQL that
+ *   publishes no delta, show up at the next full reload (task-read-model.reload-interval). So with several instances, the
+ *   aggregates can lag the database by up to one interval; the queries keep reading the previous copy while it reloads.
+ * · A load that fails (Ex: the SELECT throws) keeps the previous copy and applies the deltas buffered meanwhile to it, so the
+ *   model never stays in the loading state; the next reload() tries again.
+ * · Metrics: task.read.model.tasks, task.read.model.bytes, task.read.model.load.failures.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task-read-model.enabled", havingValue = "true")
+public class TaskReadModel {
+    private static final Status[] STATUSES = Status.values();
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int[] ageBucketUpperBounds;
+    private final Counter loadFailures;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private TaskColumns columns = new TaskColumns(0);
+    private List<TaskDeltaDTO> pendingDeltas; // Not null while loading.
+
+    public TaskReadModel(TaskRepository taskRepository, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                         @Value("${task-read-model.age-buckets:1,7,30,90}") int[] ageBucketUpperBounds) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ageBucketUpperBounds = ageBucketUpperBounds;
+        this.loadFailures = meterRegistry.counter("task.read.model.load.failures");
+        Gauge.builder("task.read.model.tasks", this, TaskReadModel::size).register(meterRegistry);
+        Gauge.builder("task.read.model.bytes", this, TaskReadModel::heapBytes).register(meterRegistry);
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDeltas != null) { // Already loading.
+                return;
+            }
+            pendingDeltas = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        TaskColumns loaded = null;
+        try {
+            TaskColumns rows = new TaskColumns((int) Math.min(Integer.MAX_VALUE - 8, taskRepository.count()));
+            readOnlyTransaction.executeWithoutResult(status -> taskRepository.forEachTaskRow((id, projectId, employeeId, taskStatus, assignedDate) ->
+                    rows.upsert(id, projectId, employeeId == 0 ? null : employeeId, (byte) Status.fromCode(taskStatus).ordinal(),
+                            assignedDate == null ? null : assignedDate.toEpochDay())));
+            loaded = rows;
+        } catch (RuntimeException e) { // Ex: the database is briefly unreachable. The next reload() tries again.
+            loadFailures.increment();
+            log.warn("The task read model could not be loaded; it keeps the previous copy until the next reload.", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded != null) {
+                    columns = loaded;
+                }
+                pendingDeltas.forEach(this::applyLocked); // Also after a failed load, so the previous copy misses nothing of this instance.
+                pendingDeltas = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${task-read-model.reload-interval:PT10M}", fixedDelayString = "${task-read-model.reload-interval:PT10M}")
+    public void reload() {
+        load();
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskDeltaDTO delta) {
+        lock.writeLock().lock();
+        try {
+            if (pendingDeltas != null) {
+                pendingDeltas.add(delta);
+            } else {
+                applyLocked(delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Map<Long, Map<Status, Integer>> countByProjectAndStatus() {
+        lock.readLock().lock();
+        try {
+            return toMap(columns.countByStatus(true, STATUSES.length), columns.projects());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<Long, Map<Status, Integer>> countByEmployeeAndStatus() {
+        lock.readLock().lock();
+        try {
+            return toMap(columns.countByStatus(false, STATUSES.length), columns.employees());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<TaskAgeBucketDTO> openTaskAgeDistribution(Long projectId, LocalDate today) { // projectId null: all projects.
+        int[] histogram;
+        lock.readLock().lock();
+        try {
+            int projectIndex = projectId == null ? TaskColumns.NONE : columns.projects().find(projectId);
+            if (projectId != null && projectIndex == TaskColumns.NONE) {
+                histogram = new int[ageBucketUpperBounds.length + 1];
+            } else {
+                histogram = columns.ageHistogram(Math.toIntExact(today.toEpochDay()), ageBucketUpperBounds, (byte) Status.COMPLETE.ordinal(), projectIndex);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<TaskAgeBucketDTO> buckets = new ArrayList<>();
+        int from = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            Integer to = i < ageBucketUpperBounds.length ? ageBucketUpperBounds[i] : null;
+            buckets.add(new TaskAgeBucketDTO(from, to, histogram[i]));
+            from = to == null ? from : to + 1;
+        }
+        return buckets;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long heapBytes() {
+        lock.readLock().lock();
+        try {
+            return columns.heapBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyLocked(TaskDeltaDTO delta) {
+        if (delta.getType() == TaskChangeType.DELETED) {
+            columns.remove(delta.getTaskId());
+        } else {
+            columns.upsert(delta.getTaskId(), delta.getProjectId(), delta.getAssignedEmployeeId(), (byte) delta.getTaskStatus().ordinal(),
+                    delta.getAssignedDate() == null ? null : delta.getAssignedDate().toEpochDay());
+        }
+    }
+
+    private static Map<Long, Map<Status, Integer>> toMap(int[][] counts, TaskColumns.Dictionary dictionary) {
+        Map<Long, Map<Status, Integer>> result = new LinkedHashMap<>();
+        for (int index = 0; index < counts.length; index++) {
+            Map<Status, Integer> byStatus = new EnumMap<>(Status.class);
+            int total = 0;
+            for (Status status : STATUSES) {
+                byStatus.put(status, counts[index][status.ordinal()]);
+                total += counts[index][status.ordinal()];
+            }
+            if (total > 0) { // A project or employee whose tasks were all deleted stays in the dictionary, but not in the result.
+                result.put(dictionary.valueAt(index), byStatus);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.company.repository;
+import com.company.entity.ProjectJob;
+import com.company.enums.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+/*
+ * 🖍️...
+ * · A job runs on the instance that holds its lease. claimLease() and renewLease() are single conditional UPDATEs, so two
+ *   instances can't both win: The database applies them one after the other, and the loser updates 0 rows.
+ * · claimLease(): Succeeds only when the job is still active and nobody holds a live lease (a dead holder's lease has expired).
+ * · renewLease(): The heartbeat of every chunk. 0 means the caller lost the lease and must stop.
+ */
+@Repository
+public interface ProjectJobRepository extends JpaRepository<ProjectJob,Long> { // <entityName,primaryKey>
+
+    Optional<ProjectJob> findFirstByProjectIdAndJobStatusIn(Long projectId, Collection<JobStatus> statuses);
+    @Query("SELECT j.id FROM ProjectJob j WHERE j.jobStatus IN ?1 AND (j.leaseExpiresAt IS NULL OR j.leaseExpiresAt < ?2) ORDER BY j.id")
+    List<Long> findIdsWithoutLiveLease(Collection<JobStatus> statuses, LocalDateTime now);
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProjectJob j SET j.leaseOwner = ?2, j.leaseExpiresAt = ?3 " +
+            "WHERE j.id = ?1 AND j.jobStatus IN ?5 AND (j.leaseExpiresAt IS NULL OR j.leaseExpiresAt < ?4)")
+    int claimLease(Long id, String owner, LocalDateTime leaseExpiresAt, LocalDateTime now, Collection<JobStatus> statuses);
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProjectJob j SET j.leaseExpiresAt = ?3 WHERE j.id = ?1 AND j.leaseOwner = ?2")
+    int renewLease(Long id, String owner, LocalDateTime leaseExpiresAt);
+
+
+
+}
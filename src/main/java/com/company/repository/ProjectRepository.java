@@ -1,15 +1,53 @@
 package com.company.repository;
+import com.company.cache.CacheNames;
 import com.company.entity.Project;
 import com.company.entity.User;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project,Long> { // <entityName,primaryKey>
+public interface ProjectRepository extends JpaRepository<Project,Long>, JpaSpecificationExecutor<Project> { // <entityName,primaryKey>
 
+    @EntityGraph("Project.manager")
     Project findByProjectCode(String code);
+    @EntityGraph("Project.manager")
     List<Project> findAllByAssignedManager(User manager);
+    @Override
+    @EntityGraph("Project.manager")
+    List<Project> findAll();
+    @Override
+    @EntityGraph("Project.manager")
+    Page<Project> findAll(Specification<Project> specification, Pageable pageable); // The filter API (Check ProjectSpecifications class).
+    @Query("SELECT p.id FROM Project p WHERE p.projectCode = ?1")
+    Long findIdByProjectCode(String code);
+    @Query("SELECT p.assignedManager.id FROM Project p WHERE p.id = ?1")
+    @Cacheable(cacheNames = CacheNames.PROJECT_MANAGERS, key = "T(String).valueOf(#p0)", unless = "#result == null") // String key: CacheInvalidator evicts by String.valueOf(key).
+    Long findManagerIdById(Long id); // Used by TaskServiceImpl to route a delta to the project's manager.
+
+    /*
+     * 🖍️...
+     * · Keyset pagination: The next chunk starts after the last id of the previous chunk (WHERE p.id > ?1 ORDER BY p.id),
+     *   so every chunk is read through the primary key index, no matter how far the scan is. OFFSET would re-read all the skipped rows.
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.id > ?1 ORDER BY p.id")
+    List<Long> findIdsAfter(Long lastId, Pageable chunk);
+    @Query("SELECT p.id FROM Project p WHERE p.id IN ?1 AND p.endDate < ?2 AND p.projectStatus <> com.company.enums.Status.COMPLETE")
+    List<Long> findOverdueIds(Collection<Long> ids, LocalDate today);
+    @Modifying
+    @Query("UPDATE Project p SET p.overdue = (CASE WHEN p.id IN ?2 THEN true ELSE false END) " +
+            "WHERE p.id IN ?1 AND (p.overdue IS NULL OR p.overdue <> (CASE WHEN p.id IN ?2 THEN true ELSE false END))") // Only the changed rows (Check TaskRepository.updateOverdue()).
+    int updateOverdue(Collection<Long> chunkIds, Collection<Long> overdueIds);
 
 
 
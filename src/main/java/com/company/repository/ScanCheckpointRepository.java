@@ -0,0 +1,39 @@
+package com.company.repository;
+import com.company.entity.ScanCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+/*
+ * 🖍️...
+ * · A lease on the checkpoint row makes a scan run on one instance at a time. Every method is a single conditional UPDATE,
+ *   so two instances can't both win: The database applies them one after the other, and the loser updates 0 rows.
+ * · claimLease(): Succeeds when nobody holds the lease, when the caller already holds it, or when it has expired (the holder died).
+ * · saveProgress() also renews the lease. 0 means the caller lost the lease and must stop.
+ */
+@Repository
+public interface ScanCheckpointRepository extends JpaRepository<ScanCheckpoint,String> { // <entityName,primaryKey>
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ScanCheckpoint c SET c.leaseOwner = ?2, c.leaseExpiresAt = ?3 " +
+            "WHERE c.scanName = ?1 AND (c.leaseOwner IS NULL OR c.leaseOwner = ?2 OR c.leaseExpiresAt < ?4)")
+    int claimLease(String scanName, String owner, LocalDateTime leaseExpiresAt, LocalDateTime now);
+    @Transactional
+    @Modifying
+    @Query("UPDATE ScanCheckpoint c SET c.lastProcessedId = ?3, c.leaseExpiresAt = ?4 WHERE c.scanName = ?1 AND c.leaseOwner = ?2")
+    int saveProgress(String scanName, String owner, Long lastProcessedId, LocalDateTime leaseExpiresAt);
+    @Transactional
+    @Modifying
+    @Query("UPDATE ScanCheckpoint c SET c.completed = true, c.leaseOwner = NULL, c.leaseExpiresAt = NULL WHERE c.scanName = ?1 AND c.leaseOwner = ?2")
+    int complete(String scanName, String owner);
+    @Transactional
+    @Modifying
+    @Query("UPDATE ScanCheckpoint c SET c.leaseOwner = NULL, c.leaseExpiresAt = NULL WHERE c.scanName = ?1 AND c.leaseOwner = ?2")
+    int releaseLease(String scanName, String owner); // After a failed run: The next run, on any instance, resumes at once.
+
+
+
+}
@@ -0,0 +1,35 @@
+package com.company.repository;
+import com.company.entity.TaskDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.List;
+/*
+ * 🖍️...
+ * · increment(): Adds the given deltas to the (day, project, employee) row, or creates the row if it doesn't exist yet.
+ *   ON CONFLICT ... DO UPDATE makes it a single atomic statement, so concurrent updates never lose a count.
+ * · The range queries read (days x employees) rows through the (projectId, rollupDate) and (employeeId, rollupDate) indexes.
+ */
+@Repository
+public interface TaskDailyRollupRepository extends JpaRepository<TaskDailyRollup,Long> { // <entityName,primaryKey>
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO task_daily_rollups(rollup_date, project_id, employee_id, created_count, completed_count, reopened_count, cycle_time_days) " +
+            "VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7) " +
+            "ON CONFLICT (rollup_date, project_id, employee_id) DO UPDATE SET " +
+            "created_count = task_daily_rollups.created_count + EXCLUDED.created_count, " +
+            "completed_count = task_daily_rollups.completed_count + EXCLUDED.completed_count, " +
+            "reopened_count = task_daily_rollups.reopened_count + EXCLUDED.reopened_count, " +
+            "cycle_time_days = task_daily_rollups.cycle_time_days + EXCLUDED.cycle_time_days", nativeQuery = true)
+    void increment(LocalDate rollupDate, Long projectId, Long employeeId, long created, long completed, long reopened, long cycleTimeDays);
+
+    List<TaskDailyRollup> findAllByProjectIdAndRollupDateBetween(Long projectId, LocalDate from, LocalDate to);
+    List<TaskDailyRollup> findAllByEmployeeIdAndRollupDateBetween(Long employeeId, LocalDate from, LocalDate to);
+
+
+
+}
@@ -3,23 +3,73 @@ import com.company.entity.Project;
 import com.company.entity.Task;
 import com.company.entity.User;
 import com.company.enums.Status;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository  extends JpaRepository<Task,Long> { // <entityName,primaryKey>
+public interface TaskRepository  extends JpaRepository<Task,Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom { // <entityName,primaryKey>
 
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.project.projectCode = ?1 AND t.taskStatus <> 'COMPLETE' ") // NOT operator <>
-    int totalNonCompletedTasks(String projectCode);
-    @Query(value = "SELECT COUNT(*)" + "FROM tasks t JOIN projects p on t.project_id = p.id " + "WHERE p.project_code = ?1 AND t.task_status = 'COMPLETE'",nativeQuery = true)
-    int totalCompletedTasks(String projectCode);
+    /*
+     * 🖍️...
+     * · taskStatus is stored as a SMALLINT code (Check CodedEnum class). JPQL compares it with the enum constant's full name,
+     *   which Hibernate converts; native SQL compares it with the code (3 = COMPLETE).
+     */
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = ?1 AND t.taskStatus <> com.company.enums.Status.COMPLETE") // NOT operator <>
+    int totalNonCompletedTasks(Long projectId);
+    @Query(value = "SELECT COUNT(*) " + "FROM tasks t " + "WHERE t.project_id = ?1 AND t.task_status = 3",nativeQuery = true)
+    int totalCompletedTasks(Long projectId); // By project_id, not by a join on project_code: Only then the planner can prune the partitions (Check db/tasks-partitioned.sql).
+    @Query("SELECT t.project.id AS projectId, SUM(CASE WHEN t.taskStatus = com.company.enums.Status.COMPLETE THEN 1 ELSE 0 END) AS completeTaskCounts, " +
+            "SUM(CASE WHEN t.taskStatus <> com.company.enums.Status.COMPLETE THEN 1 ELSE 0 END) AS unfinishedTaskCounts " +
+            "FROM Task t WHERE t.project.assignedManager = ?1 GROUP BY t.project.id") // Task counts of all the projects of a manager in one query.
+    List<ProjectTaskCounts> countTasksOfManagerProjects(User assignedManager);
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = (CASE WHEN t.project.id IN ?2 AND t.taskStatus <> com.company.enums.Status.COMPLETE THEN true ELSE false END) " +
+            "WHERE t.project.id IN ?1 AND t.isDeleted = false " +
+            "AND (t.overdue IS NULL OR t.overdue <> (CASE WHEN t.project.id IN ?2 AND t.taskStatus <> com.company.enums.Status.COMPLETE THEN true ELSE false END))") // One statement flags and un-flags the tasks of a whole chunk of projects; only the rows whose flag changes are written.
+    int updateOverdue(Collection<Long> chunkProjectIds, Collection<Long> overdueProjectIds);
+    long countByProjectId(Long projectId);
+    long countByProjectIdAndTaskStatusIsNot(Long projectId, Status status);
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = ?1 AND t.id > ?2 ORDER BY t.id") // Keyset chunks of a project's tasks (Check ProjectJobServiceImpl class).
+    List<Long> findIdsByProjectAfter(Long projectId, Long lastId, Pageable chunk);
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = ?1 AND t.taskStatus <> ?2 AND t.id > ?3 ORDER BY t.id")
+    List<Long> findIdsByProjectAndTaskStatusIsNotAfter(Long projectId, Status status, Long lastId, Pageable chunk);
+
+    @Override
+    @EntityGraph("Task.details")
+    Page<Task> findAll(Specification<Task> specification, Pageable pageable); // The filter API (Check TaskSpecifications class).
+    @Override
+    @EntityGraph("Task.details")
+    Optional<Task> findById(Long id);
+    @Override
+    @EntityGraph("Task.details")
+    List<Task> findAll();
+    @EntityGraph("Task.details")
     List<Task> findAllByProject(Project project);
+    @EntityGraph("Task.details")
+    List<Task> findAllByIdIn(Collection<Long> ids); // A chunk of a ProjectJob in one SELECT.
+    @EntityGraph("Task.details")
     List<Task> findAllByTaskStatusIsNotAndAssignedEmployee(Status status, User assignedEmployee);
+    @EntityGraph("Task.details")
     List<Task> findAllByTaskStatusAndAssignedEmployee(Status status, User assignedEmployee);
+    @EntityGraph("Task.details")
     List<Task> findAllByAssignedEmployee(User assignedEmployee);
 
+    interface ProjectTaskCounts { // Interface-based projection: Spring Data implements the getters from the query aliases.
+        Long getProjectId();
+        Long getCompleteTaskCounts();
+        Long getUnfinishedTaskCounts();
+    }
+
 
 
 
@@ -0,0 +1,19 @@
+package com.company.repository;
+import com.company.entity.Task;
+import java.time.LocalDate;
+import java.util.List;
+/*
+ * 🖍️...
+ * · Custom repository fragment: Spring Data finds the TaskRepositoryImpl class by its name, and TaskRepository gets its methods.
+ */
+public interface TaskRepositoryCustom {
+
+    void batchInsert(List<Task> tasks);
+    void forEachTaskRow(TaskRowHandler handler);
+
+    @FunctionalInterface
+    interface TaskRowHandler { // · One row of the tasks table, without creating a Task entity. assignedEmployeeId is 0 when there is none.
+        void handle(long id, long projectId, long assignedEmployeeId, short taskStatus, LocalDate assignedDate); // taskStatus: Status code.
+    }
+
+}
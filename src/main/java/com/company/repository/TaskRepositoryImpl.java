@@ -0,0 +1,77 @@
+package com.company.repository;
+import com.company.entity.Task;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.List;
+/*
+ * 🖍️...
+ * · batchInsert(): All tasks are sent in one JDBC batch of the same INSERT statement. With reWriteBatchedInserts=true in the
+ *   datasource url, the Postgres driver rewrites the batch into multi-row INSERT ... VALUES (...), (...) statements.
+ * · Hibernate can't batch inserts of entities that use GenerationType.IDENTITY, that's why plain JDBC is used here.
+ * · Generated ids are set back on the given Task objects. @PrePersist doesn't run for JDBC inserts, so onPrePersist() is called by hand.
+ * · It runs on the connection of the current (JPA) transaction, so it commits or rolls back together with the caller.
+ * · forEachTaskRow(): Streams the columns the TaskReadModel needs row by row, with a fetch size, so the whole table is never
+ *   held in memory as entities. (The Postgres driver only streams inside a transaction; otherwise it reads all rows at once.)
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+    private static final String INSERT_TASK = "INSERT INTO tasks(insert_date_time, insert_user_id, is_deleted, last_update_date_time, last_update_user_id, " +
+            "task_subject, task_detail, task_status, assigned_date, project_id, assigned_employee_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_TASK_ROWS = "SELECT id, project_id, assigned_employee_id, task_status, assigned_date FROM tasks WHERE is_deleted = false";
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    @Override
+    public void batchInsert(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute(connection -> connection.prepareStatement(INSERT_TASK, new String[]{"id"}), (PreparedStatement ps) -> {
+            for (Task task : tasks) {
+                task.onPrePersist();
+                ps.setTimestamp(1, Timestamp.valueOf(task.getInsertDateTime()));
+                ps.setLong(2, task.getInsertUserId());
+                ps.setBoolean(3, task.getIsDeleted());
+                ps.setTimestamp(4, Timestamp.valueOf(task.getLastUpdateDateTime()));
+                ps.setLong(5, task.getLastUpdateUserId());
+                ps.setString(6, task.getTaskSubject());
+                ps.setString(7, task.getTaskDetail());
+                ps.setShort(8, task.getTaskStatus().getCode()); // SMALLINT code (Check CodedEnum class).
+                ps.setDate(9, Date.valueOf(task.getAssignedDate()));
+                ps.setLong(10, task.getProject().getId());
+                ps.setLong(11, task.getAssignedEmployee().getId());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                for (int i = 0; i < tasks.size() && keys.next(); i++) {
+                    tasks.get(i).setId(keys.getLong(1));
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void forEachTaskRow(TaskRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_TASK_ROWS);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            Date assignedDate = rs.getDate(5);
+            handler.handle(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getShort(4), assignedDate == null ? null : assignedDate.toLocalDate());
+        });
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.company.repository;
+import com.company.entity.TaskStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskStatusHistoryRepository extends JpaRepository<TaskStatusHistory,Long> { // <entityName,primaryKey>
+
+    List<TaskStatusHistory> findAllByTaskIdOrderByTransitionDateTime(Long taskId);
+    List<TaskStatusHistory> findAllByTaskIdIn(Collection<Long> taskIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO task_status_histories(insert_date_time, insert_user_id, is_deleted, last_update_date_time, last_update_user_id, " +
+            "task_id, project_id, employee_id, from_status, to_status, transition_date_time) " +
+            "SELECT ?2, 1, false, ?2, 1, t.id, t.project_id, t.assigned_employee_id, NULL, t.task_status, ?2 FROM tasks t WHERE t.id IN (?1)", nativeQuery = true)
+    void insertCreatedTasks(Collection<Long> taskIds, LocalDateTime transitionDateTime); // One INSERT ... SELECT for a whole batch of new tasks.
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO task_status_histories(insert_date_time, insert_user_id, is_deleted, last_update_date_time, last_update_user_id, " +
+            "task_id, project_id, employee_id, from_status, to_status, transition_date_time) " +
+            "SELECT ?4, 1, false, ?4, 1, t.id, t.project_id, t.assigned_employee_id, ?2, ?3, ?4 FROM tasks t WHERE t.id IN (?1)", nativeQuery = true)
+    void insertTransitions(Collection<Long> taskIds, short fromStatus, short toStatus, LocalDateTime transitionDateTime); // Native: the status codes, not the enums.
+
+
+
+}
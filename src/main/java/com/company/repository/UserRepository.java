@@ -1,8 +1,13 @@
 package com.company.repository;
 import com.company.entity.User;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 /*
  * 🖍️...
@@ -22,10 +27,21 @@ import java.util.List;
 @Repository
 public interface UserRepository extends JpaRepository<User,Long> { // <entityName,primaryKey>
 
+    @EntityGraph(attributePaths = "role") // role is fetched with a join, instead of a separate SELECT per role.
     User findByUserName(String username);
     @Transactional
     void deleteByUserName(String username);
+    @EntityGraph(attributePaths = "role")
     List<User> findAllByRoleDescriptionIgnoreCase(String description);
+    @Override
+    @EntityGraph(attributePaths = "role")
+    List<User> findAll(Sort sort);
+    @EntityGraph(attributePaths = "role")
+    List<User> findAllByIdInAndRoleDescriptionIgnoreCase(Collection<Long> ids, String description);
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passWord = ?3 WHERE u.id = ?1 AND u.passWord = ?2")
+    int updatePassWord(Long id, String currentPassWord, String newPassWord); // 0 when the password was changed meanwhile.
 
 
 
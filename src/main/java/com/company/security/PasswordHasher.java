@@ -0,0 +1,123 @@
+package com.company.security;
+import com.company.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+/*
+ * 🖍️...
+ * · bcrypt is slow on purpose: Every +1 of the cost (work factor) doubles the CPU time of one hash (cost 10 ≈ 50-100 ms).
+ * · Hashing and matching run on a dedicated, bounded pool (password-hashing.threads, password-hashing.queue-capacity), not on the
+ *   request threads. So a burst of sign-ups or logins can use at most "threads" CPUs, and the other requests keep the rest.
+ *   The request thread only waits (without CPU) for the result.
+ * · A full queue, or a wait longer than password-hashing.max-wait, is rejected with BulkheadFullException (503 + Retry-After),
+ *   the same load shedding as the service bulkheads.
+ * · matches() of a missing hash (unknown or disabled user) still runs one bcrypt match, against a dummy hash of the same cost,
+ *   so the response time doesn't tell whether a user name exists.
+ * · needsRehash(): A hash made with another cost than the configured one is hashed again at the next successful login
+ *   (Check UserServiceImpl.authenticate()), so changing password-hashing.cost migrates the users gradually.
+ * · Metrics: password.hashing.duration (tag operation=hash|match), password.hashing.queue.depth, password.hashing.rejections.
+ */
+@Component
+public class PasswordHasher {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final BCryptPasswordEncoder encoder;
+    private final String dummyHash;
+    private final int cost;
+    private final Duration maxWait;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer matchTimer;
+    private final Counter rejections;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${password-hashing.cost:10}") int cost,
+                          @Value("${password-hashing.threads:0}") int threads,
+                          @Value("${password-hashing.queue-capacity:100}") int queueCapacity,
+                          @Value("${password-hashing.max-wait:5s}") Duration maxWait) {
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.dummyHash = encoder.encode("dummy-password"); // One hash at startup.
+        this.cost = cost;
+        this.maxWait = maxWait;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2); // 0: half of the CPUs.
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.hashTimer = meterRegistry.timer("password.hashing.duration", "operation", "hash");
+        this.matchTimer = meterRegistry.timer("password.hashing.duration", "operation", "match");
+        this.rejections = meterRegistry.counter("password.hashing.rejections");
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+
+    public String hash(String rawPassword) {
+        return run(() -> hashTimer.recordCallable(() -> encoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String hashedPassword) { // hashedPassword is null for an unknown or disabled user.
+        if (rawPassword == null) {
+            return false;
+        }
+        boolean matches = run(() -> matchTimer.recordCallable(() -> encoder.matches(rawPassword, hashedPassword == null ? dummyHash : hashedPassword)));
+        return matches && hashedPassword != null;
+    }
+
+    public boolean isHash(String value) {
+        return value != null && BCRYPT_COST.matcher(value).find();
+    }
+
+    public boolean needsRehash(String hashedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(hashedPassword == null ? "" : hashedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != cost; // Not a bcrypt hash at all, or another cost.
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> work) {
+        Future<T> result;
+        try {
+            result = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new BulkheadFullException("Password hashing is saturated, please retry later.");
+        }
+        try {
+            return result.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejections.increment();
+            throw new BulkheadFullException("Password hashing is saturated, please retry later.");
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed.", e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,297 @@
+package com.company.serializer;
+import com.company.dto.ProjectDTO;
+import com.company.dto.RoleDTO;
+import com.company.dto.TaskDTO;
+import com.company.dto.UserDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+/*
+ * 🖍️...
+ * · DtoJsonWriter writes DTOs token by token with Jackson's streaming JsonGenerator straight into the response stream.
+ *   No intermediate object tree or full String is built, so writing adds no memory on top of the DTO list.
+ *   The list itself is still built in full by the service (ModelMapper), so a long list still costs memory.
+ * · Only the fields that FieldSelection includes are written, and an association that is not expanded is written as its id.
+ * · passWord and confirmPassWord of UserDTO are never written.
+ * · Normalized shape (tasks only): Every referenced project and user is written once in "projects" and "users" maps,
+ *   and tasks refer to them by id. Ex: { "tasks": [ { "id": 1, "project": 1, "assignedEmployee": 4 } ],
+ *                                        "projects": { "1": { ... "assignedManager": 2 } },
+ *                                        "users": { "2": { ... }, "4": { ... } } }
+ * · Pages (the filter API): { "content": [ ... ], "page": 0, "size": 50, "totalElements": 120, "totalPages": 3 }
+ */
+@Component
+public class DtoJsonWriter {
+    private final JsonFactory jsonFactory;
+
+    public DtoJsonWriter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+
+    public void writeTasks(OutputStream out, List<TaskDTO> tasks, FieldSelection selection) throws IOException {
+        try (JsonGenerator gen = createGenerator(out)) {
+            gen.writeStartArray();
+            for (TaskDTO task : tasks) {
+                writeTask(gen, task, selection);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    public void writeTask(OutputStream out, TaskDTO task, FieldSelection selection) throws IOException {
+        try (JsonGenerator gen = createGenerator(out)) {
+            writeTask(gen, task, selection);
+        }
+    }
+
+    public void writeTasksNormalized(OutputStream out, List<TaskDTO> tasks, FieldSelection selection) throws IOException {
+        Map<Long, ProjectDTO> projects = new LinkedHashMap<>();
+        Map<Long, UserDTO> users = new LinkedHashMap<>();
+        Map<Long, String> userPaths = new HashMap<>(); // The path a user is referenced from: "assignedEmployee" or "project.assignedManager".
+        try (JsonGenerator gen = createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("tasks");
+            for (TaskDTO task : tasks) {
+                writeTaskFields(gen, task, selection, false);
+                gen.writeEndObject();
+                if (task.getProject() != null && selection.expands("project")) {
+                    projects.putIfAbsent(task.getProject().getId(), task.getProject());
+                }
+                if (task.getAssignedEmployee() != null && selection.expands("assignedEmployee")) {
+                    addUser(users, userPaths, task.getAssignedEmployee(), "assignedEmployee", selection);
+                }
+            }
+            gen.writeEndArray();
+            gen.writeObjectFieldStart("projects");
+            for (ProjectDTO project : projects.values()) {
+                gen.writeFieldName(String.valueOf(project.getId()));
+                writeProjectFields(gen, project, selection, "project", false);
+                gen.writeEndObject();
+                if (project.getAssignedManager() != null && selection.expands("project.assignedManager")) {
+                    addUser(users, userPaths, project.getAssignedManager(), "project.assignedManager", selection);
+                }
+            }
+            gen.writeEndObject();
+            gen.writeObjectFieldStart("users");
+            for (UserDTO user : users.values()) {
+                gen.writeFieldName(String.valueOf(user.getId()));
+                writeUser(gen, user, selection, userPaths.get(user.getId()));
+            }
+            gen.writeEndObject();
+            gen.writeEndObject();
+        }
+    }
+
+    public void writeTaskPage(OutputStream out, Page<TaskDTO> page, FieldSelection selection) throws IOException {
+        try (JsonGenerator gen = createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("content");
+            for (TaskDTO task : page.getContent()) {
+                writeTask(gen, task, selection);
+            }
+            gen.writeEndArray();
+            writePageFields(gen, page);
+            gen.writeEndObject();
+        }
+    }
+
+    public void writeProjects(OutputStream out, List<ProjectDTO> projects, FieldSelection selection) throws IOException {
+        try (JsonGenerator gen = createGenerator(out)) {
+            gen.writeStartArray();
+            for (ProjectDTO project : projects) {
+                writeProject(gen, project, selection, "");
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    public void writeProject(OutputStream out, ProjectDTO project, FieldSelection selection) throws IOException {
+        try (JsonGenerator gen = createGenerator(out)) {
+            writeProject(gen, project, selection, "");
+        }
+    }
+
+    public void writeProjectPage(OutputStream out, Page<ProjectDTO> page, FieldSelection selection) throws IOException {
+        try (JsonGenerator gen = createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("content");
+            for (ProjectDTO project : page.getContent()) {
+                writeProject(gen, project, selection, "");
+            }
+            gen.writeEndArray();
+            writePageFields(gen, page);
+            gen.writeEndObject();
+        }
+    }
+
+    public void writeUsers(OutputStream out, List<UserDTO> users, FieldSelection selection) throws IOException {
+        try (JsonGenerator gen = createGenerator(out)) {
+            gen.writeStartArray();
+            for (UserDTO user : users) {
+                writeUser(gen, user, selection, "");
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    public void writeUser(OutputStream out, UserDTO user, FieldSelection selection) throws IOException {
+        try (JsonGenerator gen = createGenerator(out)) {
+            writeUser(gen, user, selection, "");
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator gen = jsonFactory.createGenerator(out);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // The servlet container owns the response stream.
+        return gen;
+    }
+
+    private void writeTask(JsonGenerator gen, TaskDTO task, FieldSelection selection) throws IOException {
+        if (task == null) {
+            gen.writeNull();
+            return;
+        }
+        writeTaskFields(gen, task, selection, true);
+        gen.writeEndObject();
+    }
+
+    private void writeTaskFields(JsonGenerator gen, TaskDTO task, FieldSelection selection, boolean nested) throws IOException {
+        String type = FieldSelection.TASK;
+        gen.writeStartObject();
+        if (selection.includes(type, "id")) gen.writeObjectField("id", task.getId());
+        if (selection.includes(type, "project")) {
+            gen.writeFieldName("project");
+            if (nested && selection.expands("project")) {
+                writeProject(gen, task.getProject(), selection, "project");
+            } else {
+                writeId(gen, task.getProject() == null ? null : task.getProject().getId());
+            }
+        }
+        if (selection.includes(type, "assignedEmployee")) {
+            gen.writeFieldName("assignedEmployee");
+            if (nested && selection.expands("assignedEmployee")) {
+                writeUser(gen, task.getAssignedEmployee(), selection, "assignedEmployee");
+            } else {
+                writeId(gen, task.getAssignedEmployee() == null ? null : task.getAssignedEmployee().getId());
+            }
+        }
+        if (selection.includes(type, "taskSubject")) gen.writeStringField("taskSubject", task.getTaskSubject());
+        if (selection.includes(type, "taskDetail")) gen.writeStringField("taskDetail", task.getTaskDetail());
+        if (selection.includes(type, "taskStatus")) writeEnum(gen, "taskStatus", task.getTaskStatus());
+        if (selection.includes(type, "assignedDate")) writeDate(gen, "assignedDate", task.getAssignedDate());
+        if (selection.includes(type, "overdue")) gen.writeObjectField("overdue", task.getOverdue());
+    }
+
+    private void writeProject(JsonGenerator gen, ProjectDTO project, FieldSelection selection, String path) throws IOException {
+        if (project == null) {
+            gen.writeNull();
+            return;
+        }
+        writeProjectFields(gen, project, selection, path, true);
+        gen.writeEndObject();
+    }
+
+    private void writeProjectFields(JsonGenerator gen, ProjectDTO project, FieldSelection selection, String path, boolean nested) throws IOException {
+        String type = FieldSelection.PROJECT;
+        String managerPath = child(path, "assignedManager");
+        gen.writeStartObject();
+        if (selection.includes(type, "id")) gen.writeObjectField("id", project.getId());
+        if (selection.includes(type, "projectName")) gen.writeStringField("projectName", project.getProjectName());
+        if (selection.includes(type, "projectCode")) gen.writeStringField("projectCode", project.getProjectCode());
+        if (selection.includes(type, "assignedManager")) {
+            gen.writeFieldName("assignedManager");
+            if (nested && selection.expands(managerPath)) {
+                writeUser(gen, project.getAssignedManager(), selection, managerPath);
+            } else {
+                writeId(gen, project.getAssignedManager() == null ? null : project.getAssignedManager().getId());
+            }
+        }
+        if (selection.includes(type, "startDate")) writeDate(gen, "startDate", project.getStartDate());
+        if (selection.includes(type, "endDate")) writeDate(gen, "endDate", project.getEndDate());
+        if (selection.includes(type, "projectDetail")) gen.writeStringField("projectDetail", project.getProjectDetail());
+        if (selection.includes(type, "projectStatus")) writeEnum(gen, "projectStatus", project.getProjectStatus());
+        if (selection.includes(type, "overdue")) gen.writeObjectField("overdue", project.getOverdue());
+        if (selection.includes(type, "completeTaskCounts")) gen.writeNumberField("completeTaskCounts", project.getCompleteTaskCounts());
+        if (selection.includes(type, "unfinishedTaskCounts")) gen.writeNumberField("unfinishedTaskCounts", project.getUnfinishedTaskCounts());
+    }
+
+    private void writeUser(JsonGenerator gen, UserDTO user, FieldSelection selection, String path) throws IOException {
+        if (user == null) {
+            gen.writeNull();
+            return;
+        }
+        String type = FieldSelection.USER;
+        String rolePath = child(path, "role");
+        gen.writeStartObject();
+        if (selection.includes(type, "id")) gen.writeObjectField("id", user.getId());
+        if (selection.includes(type, "firstName")) gen.writeStringField("firstName", user.getFirstName());
+        if (selection.includes(type, "lastName")) gen.writeStringField("lastName", user.getLastName());
+        if (selection.includes(type, "userName")) gen.writeStringField("userName", user.getUserName());
+        if (selection.includes(type, "enabled")) gen.writeBooleanField("enabled", user.isEnabled());
+        if (selection.includes(type, "phone")) gen.writeStringField("phone", user.getPhone());
+        if (selection.includes(type, "role")) {
+            gen.writeFieldName("role");
+            if (selection.expands(rolePath)) {
+                writeRole(gen, user.getRole(), selection);
+            } else {
+                writeId(gen, user.getRole() == null ? null : user.getRole().getId());
+            }
+        }
+        if (selection.includes(type, "gender")) writeEnum(gen, "gender", user.getGender());
+        gen.writeEndObject();
+    }
+
+    private void writeRole(JsonGenerator gen, RoleDTO role, FieldSelection selection) throws IOException {
+        if (role == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        if (selection.includes(FieldSelection.ROLE, "id")) gen.writeObjectField("id", role.getId());
+        if (selection.includes(FieldSelection.ROLE, "description")) gen.writeStringField("description", role.getDescription());
+        gen.writeEndObject();
+    }
+
+    private static void addUser(Map<Long, UserDTO> users, Map<Long, String> userPaths, UserDTO user, String path, FieldSelection selection) {
+        users.putIfAbsent(user.getId(), user);
+        // A user referenced from both paths is written once: Its role is expanded if either path expands it.
+        userPaths.merge(user.getId(), path, (current, added) -> selection.expands(child(current, "role")) ? current : added);
+    }
+
+    private static void writePageFields(JsonGenerator gen, Page<?> page) throws IOException {
+        gen.writeNumberField("page", page.getNumber());
+        gen.writeNumberField("size", page.getSize());
+        gen.writeNumberField("totalElements", page.getTotalElements());
+        gen.writeNumberField("totalPages", page.getTotalPages());
+    }
+
+    private static void writeId(JsonGenerator gen, Long id) throws IOException {
+        if (id == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(id);
+        }
+    }
+
+    private static void writeEnum(JsonGenerator gen, String name, Enum<?> value) throws IOException {
+        gen.writeStringField(name, value == null ? null : value.name());
+    }
+
+    private static void writeDate(JsonGenerator gen, String name, LocalDate value) throws IOException {
+        gen.writeStringField(name, value == null ? null : value.toString()); // ISO-8601, the same as Spring Boot's default Jackson setup.
+    }
+
+    private static String child(String path, String name) {
+        return path.isEmpty() ? name : path + "." + name;
+    }
+
+}
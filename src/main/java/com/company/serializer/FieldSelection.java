@@ -0,0 +1,68 @@
+package com.company.serializer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+/*
+ * 🖍️...
+ * · Sparse fieldsets: The client asks only for the fields it needs, so we don't serialize (and send) the rest.
+ *   Ex: /api/v1/task?fields=id,taskSubject,taskStatus                 → fields of the root type (task)
+ *       /api/v1/task?fields[project]=projectCode,projectName           → fields of a related type (task, project, user, role)
+ * · Expand: Which associations are written as nested objects. An association that is not expanded is written as its id only.
+ *   Ex: /api/v1/task?expand=project,project.assignedManager            → assignedEmployee will be written as "assignedEmployee": 4
+ *       /api/v1/task?expand=                                           → no association is expanded
+ *   When the expand parameter is not sent at all, every association is expanded (the full DTO shape).
+ */
+public class FieldSelection {
+
+    public static final String TASK = "task";
+    public static final String PROJECT = "project";
+    public static final String USER = "user";
+    public static final String ROLE = "role";
+
+    private static final FieldSelection ALL = new FieldSelection(Collections.emptyMap(), null);
+
+    private final Map<String, Set<String>> fieldsByType; // A type that is not in the map has all of its fields included.
+    private final Set<String> expand;                    // null means every association is expanded.
+
+    private FieldSelection(Map<String, Set<String>> fieldsByType, Set<String> expand) {
+        this.fieldsByType = fieldsByType;
+        this.expand = expand;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public static FieldSelection of(String rootType, Map<String, String> params) {
+        Map<String, Set<String>> fieldsByType = new HashMap<>();
+        params.forEach((name, value) -> {
+            if (name.equals("fields")) {
+                fieldsByType.put(rootType, split(value));
+            } else if (name.startsWith("fields[") && name.endsWith("]")) {
+                fieldsByType.put(name.substring(7, name.length() - 1), split(value));
+            }
+        });
+        Set<String> expand = params.containsKey("expand") ? split(params.get("expand")) : null;
+        return new FieldSelection(fieldsByType, expand);
+    }
+
+    public boolean includes(String type, String field) {
+        Set<String> fields = fieldsByType.get(type);
+        return fields == null || fields.contains(field);
+    }
+
+    public boolean expands(String path) {
+        return expand == null || expand.contains(path);
+    }
+
+    private static Set<String> split(String value) {
+        if (value == null || value.isBlank()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toSet());
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.company.service;
+import com.company.dto.OverdueScanResultDTO;
+
+public interface OverdueScanService {
+
+    OverdueScanResultDTO scan();
+
+
+
+}
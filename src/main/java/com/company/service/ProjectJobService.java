@@ -0,0 +1,13 @@
+package com.company.service;
+import com.company.dto.ProjectJobDTO;
+import com.company.enums.JobType;
+
+public interface ProjectJobService {
+
+    ProjectJobDTO submit(JobType jobType, String projectCode);
+    ProjectJobDTO findById(Long id);
+    void recoverInterruptedJobs();
+
+
+
+}
@@ -1,6 +1,9 @@
 package com.company.service;
 import com.company.dto.ProjectDTO;
+import com.company.dto.ProjectFilterDTO;
 import com.company.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import java.util.List;
 
 public interface ProjectService {
@@ -13,6 +16,7 @@ public interface ProjectService {
     void complete(String projectCode);
     List<ProjectDTO> listAllProjectDetails();
     List<ProjectDTO> readAllByAssignedManager(User assignedManager);
+    Page<ProjectDTO> filter(ProjectFilterDTO filter, Pageable pageable);
 
 
 
@@ -1,8 +1,12 @@
 package com.company.service;
 import com.company.dto.ProjectDTO;
+import com.company.dto.TaskAssignmentDTO;
 import com.company.dto.TaskDTO;
+import com.company.dto.TaskFilterDTO;
 import com.company.entity.User;
 import com.company.enums.Status;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import java.util.List;
 
 public interface TaskService {
@@ -16,10 +20,14 @@ public interface TaskService {
     int totalCompletedTask(String projectCode);
     void deleteByProject(ProjectDTO project);
     void completeByProject(ProjectDTO project);
+    void completeTasks(List<Long> taskIds);
+    void deleteTasks(List<Long> taskIds);
     List<TaskDTO> listAllTasksByStatusIsNot(Status status);
     void updateStatus(TaskDTO task);
     List<TaskDTO> listAllTasksByStatus(Status status);
     List<TaskDTO> readAllByAssignedEmployee(User assignedEmployee);
+    int assignAll(String projectCode, List<TaskAssignmentDTO> assignments);
+    Page<TaskDTO> filter(TaskFilterDTO filter, Pageable pageable);
 
 
 
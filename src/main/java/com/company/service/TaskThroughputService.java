@@ -0,0 +1,22 @@
+package com.company.service;
+import com.company.dto.TaskThroughputDTO;
+import com.company.entity.Task;
+import com.company.enums.Status;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface TaskThroughputService {
+
+    void recordTransition(Task task, Status fromStatus, Status toStatus);
+    void recordTransitions(List<Task> tasks, Map<Long, Status> fromStatuses);
+    void recordCreated(List<Task> tasks);
+    void recordMoved(Task task);
+    void recordDeleted(Task task);
+    void recordDeleted(List<Task> tasks);
+    List<TaskThroughputDTO> listDailyThroughputByProject(String projectCode, LocalDate from, LocalDate to);
+    List<TaskThroughputDTO> listDailyThroughputByEmployee(String username, LocalDate from, LocalDate to);
+
+
+
+}
@@ -11,6 +11,7 @@ public interface UserService{
     void deleteByUserName(String username);
     void delete(String username);
     List<UserDTO> listAllByRole(String role);
+    boolean authenticate(String username, String rawPassword);
 
 
 
@@ -0,0 +1,234 @@
+package com.company.service.impl;
+import com.company.cache.CacheInvalidator;
+import com.company.cache.CacheNames;
+import com.company.dto.OverdueScanResultDTO;
+import com.company.entity.ScanCheckpoint;
+import com.company.repository.ProjectRepository;
+import com.company.repository.ScanCheckpointRepository;
+import com.company.repository.TaskRepository;
+import com.company.service.OverdueScanService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+/*
+ * 🖍️...
+ * · Flags projects whose endDate has passed and that are not COMPLETE, and their tasks that are not COMPLETE (overdue = true).
+ *   Projects and tasks that are no longer overdue are un-flagged in the same statements.
+ * · The projects are read in keyset-ordered chunks of ids (Check ProjectRepository.findIdsAfter()). Up to "parallelism" chunks
+ *   (a wave) are processed at the same time on a fixed worker pool; each chunk runs in its own short transaction with three
+ *   statements, whatever the chunk size is.
+ * · After every wave the checkpoint is saved. If the application stops during a run, the next run resumes after the last
+ *   saved wave, with the same scanDate. Processing a chunk again is harmless, because the updates are idempotent.
+ * · One instance at a time: The scan holds a lease on its checkpoint row, renewed with every checkpoint save (Check
+ *   ScanCheckpointRepository class). A scan that finds the lease held by another live instance fails at once. When the holder
+ *   dies, its lease expires after overdue-scan.lease and the next run on any instance resumes from the checkpoint.
+ * · This class is not @Transactional: A single transaction around the whole scan would hold locks on every project until the end.
+ * · Metrics: overdue.scan.duration, overdue.scan.projects.scanned, overdue.scan.projects.overdue, overdue.scan.tasks.updated,
+ *   overdue.scan.throughput (projects per second of the last run).
+ */
+@Service
+public class OverdueScanServiceImpl implements OverdueScanService {
+    private static final String SCAN_NAME = "overdue-projects";
+    private static final List<Long> NO_IDS = List.of(-1L); // "IN ()" is not valid SQL, so an empty id list is replaced with an id that doesn't exist.
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ScanCheckpointRepository scanCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidator cacheInvalidator;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration lease;
+    private final String instanceId = UUID.randomUUID().toString(); // The lease owner.
+    private final ExecutorService workers;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Timer scanTimer;
+    private final Counter scannedProjectsCounter;
+    private final Counter overdueProjectsCounter;
+    private final Counter updatedTasksCounter;
+    private volatile double lastThroughput;
+
+    public OverdueScanServiceImpl(ProjectRepository projectRepository, TaskRepository taskRepository, ScanCheckpointRepository scanCheckpointRepository,
+                                  TransactionTemplate transactionTemplate, CacheInvalidator cacheInvalidator, MeterRegistry meterRegistry,
+                                  @Value("${overdue-scan.chunk-size:500}") int chunkSize, @Value("${overdue-scan.parallelism:4}") int parallelism,
+                                  @Value("${overdue-scan.lease:10m}") Duration lease) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.scanCheckpointRepository = scanCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheInvalidator = cacheInvalidator;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.lease = lease;
+        this.workers = Executors.newFixedThreadPool(parallelism);
+        this.scanTimer = meterRegistry.timer("overdue.scan.duration");
+        this.scannedProjectsCounter = meterRegistry.counter("overdue.scan.projects.scanned");
+        this.overdueProjectsCounter = meterRegistry.counter("overdue.scan.projects.overdue");
+        this.updatedTasksCounter = meterRegistry.counter("overdue.scan.tasks.updated");
+        Gauge.builder("overdue.scan.throughput", this, service -> service.lastThroughput).register(meterRegistry);
+    }
+
+
+    @Scheduled(cron = "${overdue-scan.cron:0 0 2 * * *}")
+    public void scheduledScan() {
+        scan();
+    }
+
+    @Override
+    public OverdueScanResultDTO scan() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("The overdue scan is already running.");
+        }
+        try {
+            claimLease();
+            try {
+                return scanFromCheckpoint();
+            } finally {
+                scanCheckpointRepository.releaseLease(SCAN_NAME, instanceId); // Only after a failure: complete() has released it already.
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void claimLease() {
+        if (!scanCheckpointRepository.existsById(SCAN_NAME)) { // The very first run: The lease needs a row to live in.
+            ScanCheckpoint checkpoint = new ScanCheckpoint();
+            checkpoint.setScanName(SCAN_NAME);
+            checkpoint.setCompleted(true); // Nothing to resume.
+            try {
+                scanCheckpointRepository.save(checkpoint);
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created it at the same time; the claim below decides which one runs.
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (scanCheckpointRepository.claimLease(SCAN_NAME, instanceId, now.plus(lease), now) == 0) {
+            throw new IllegalStateException("The overdue scan is already running on another instance.");
+        }
+    }
+
+    private OverdueScanResultDTO scanFromCheckpoint() {
+        long start = System.nanoTime();
+        ScanCheckpoint checkpoint = scanCheckpointRepository.findById(SCAN_NAME).orElseGet(ScanCheckpoint::new);
+        boolean resumed = checkpoint.getScanDate() != null && !checkpoint.isCompleted();
+        if (!resumed) {
+            checkpoint.setScanName(SCAN_NAME);
+            checkpoint.setLastProcessedId(0L);
+            checkpoint.setScanDate(LocalDate.now());
+            checkpoint.setRunStartDateTime(LocalDateTime.now());
+            checkpoint.setCompleted(false);
+            checkpoint = scanCheckpointRepository.save(checkpoint);
+        }
+        LocalDate scanDate = checkpoint.getScanDate();
+        long lastId = checkpoint.getLastProcessedId();
+        long[] totals = new long[3]; // scanned projects, overdue projects, updated tasks
+
+        List<List<Long>> wave = nextWave(lastId);
+        while (!wave.isEmpty()) {
+            List<Future<long[]>> results = new ArrayList<>();
+            for (List<Long> chunk : wave) {
+                results.add(workers.submit(() -> processChunk(chunk, scanDate)));
+            }
+            for (Future<long[]> result : results) {
+                long[] chunkTotals = await(result);
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += chunkTotals[i];
+                }
+            }
+            List<Long> lastChunk = wave.get(wave.size() - 1);
+            lastId = lastChunk.get(lastChunk.size() - 1);
+            if (scanCheckpointRepository.saveProgress(SCAN_NAME, instanceId, lastId, LocalDateTime.now().plus(lease)) == 0) {
+                throw new IllegalStateException("The overdue scan lost its lease; the instance that holds it resumes from the last checkpoint.");
+            }
+            wave = nextWave(lastId);
+        }
+        if (scanCheckpointRepository.complete(SCAN_NAME, instanceId) == 0) {
+            throw new IllegalStateException("The overdue scan lost its lease; the instance that holds it resumes from the last checkpoint.");
+        }
+
+        long durationNanos = System.nanoTime() - start;
+        scanTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        scannedProjectsCounter.increment(totals[0]);
+        overdueProjectsCounter.increment(totals[1]);
+        updatedTasksCounter.increment(totals[2]);
+        lastThroughput = totals[0] / Math.max(durationNanos / 1_000_000_000.0, 0.001);
+
+        OverdueScanResultDTO result = new OverdueScanResultDTO();
+        result.setScanDate(scanDate);
+        result.setResumed(resumed);
+        result.setScannedProjects(totals[0]);
+        result.setOverdueProjects(totals[1]);
+        result.setUpdatedTasks(totals[2]);
+        result.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        result.setProjectsPerSecond(lastThroughput);
+        return result;
+    }
+
+    private List<List<Long>> nextWave(long lastId) {
+        List<List<Long>> wave = new ArrayList<>();
+        while (wave.size() < parallelism) {
+            List<Long> chunk = projectRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            wave.add(chunk);
+            lastId = chunk.get(chunk.size() - 1);
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        return wave;
+    }
+
+    private long[] processChunk(List<Long> projectIds, LocalDate scanDate) {
+        return transactionTemplate.execute(status -> {
+            List<Long> overdueIds = projectRepository.findOverdueIds(projectIds, scanDate);
+            Collection<Long> overdueOrNone = overdueIds.isEmpty() ? NO_IDS : overdueIds;
+            int updatedProjects = projectRepository.updateOverdue(projectIds, overdueOrNone);
+            int updatedTasks = taskRepository.updateOverdue(projectIds, overdueOrNone);
+            if (updatedProjects > 0) {
+                cacheInvalidator.evictAll(CacheNames.PROJECTS); // The chunk has ids, the cache is keyed by code; the scan runs once a night.
+            }
+            return new long[]{projectIds.size(), overdueIds.size(), updatedTasks};
+        });
+    }
+
+    private long[] await(Future<long[]> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The overdue scan was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A chunk of the overdue scan failed; the next run resumes from the last checkpoint.", e.getCause());
+        }
+    }
+
+}
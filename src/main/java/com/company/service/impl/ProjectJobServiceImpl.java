@@ -0,0 +1,279 @@
+package com.company.service.impl;
+import com.company.cache.CacheInvalidator;
+import com.company.cache.CacheNames;
+import com.company.dto.ProjectJobDTO;
+import com.company.entity.Project;
+import com.company.entity.ProjectJob;
+import com.company.enums.JobStatus;
+import com.company.enums.JobType;
+import com.company.enums.Status;
+import com.company.exception.BulkheadFullException;
+import com.company.mapper.MapperUtil;
+import com.company.repository.ProjectJobRepository;
+import com.company.repository.ProjectRepository;
+import com.company.repository.TaskRepository;
+import com.company.service.ProjectJobService;
+import com.company.service.TaskService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+/*
+ * 🖍️...
+ * · ProjectServiceImpl.complete() and delete() update every task of the project in the request's transaction. A ProjectJob
+ *   does the same work in the background: submit() saves the job and returns at once, and the client polls GET /api/v1/job/{id}.
+ * · A job runs on a bounded worker pool (project-jobs.threads, project-jobs.queue-capacity); a full queue is rejected with
+ *   BulkheadFullException (503 + Retry-After).
+ * · Steps, each in its own transaction:
+ *   1. Start: The project is completed (or soft deleted and renamed), the tasks are counted, and the job becomes RUNNING.
+ *   2. Chunks: The next project-jobs.chunk-size task ids after lastProcessedTaskId are completed (or deleted) through TaskService,
+ *      so the status history, the SSE push and the read model see every task, and the job's progress is saved with the chunk.
+ *      A chunk is one batch like completeByProject() (Check TaskServiceImpl.completeTasks()): Its statements don't grow with the chunk size.
+ *   3. Finish: SUCCEEDED, or FAILED with the error message.
+ * · A failure (Ex: a chunk that throws) doesn't finish the job at once: Its committed steps stay, and the job stays QUEUED or
+ *   RUNNING with its lease released, so the next recovery continues it after the last committed chunk. After project-jobs.max-attempts
+ *   failures it is FAILED. A delete job must not stop halfway: Its project is already renamed and hidden after step 1, so it
+ *   can't be submitted again, and its remaining tasks could not be reached anymore.
+ * · A worker first claims the job's lease (Check ProjectJobRepository class), renews it with every chunk, and stops when it lost it.
+ *   So with several instances, a job runs on exactly one of them.
+ * · Recovery (when the application is ready, then every project-jobs.recovery-interval): The QUEUED and RUNNING jobs without a
+ *   live lease are dispatched again and continue after their last committed chunk. A RUNNING job skips step 1, because it was
+ *   committed already. The jobs that don't fit into the queue stay as they are, for the next recovery; they never fail for it.
+ *   A job of an instance that died waits until its lease expired (project-jobs.lease).
+ * · Only one QUEUED or RUNNING job per project: submitting again returns the existing job. Two concurrent submits can't both
+ *   insert one, because of the unique activeProjectId (Check ProjectJob class).
+ * · This class is not @Transactional: A single transaction around the whole job would hold its locks until the last task.
+ */
+@Service
+public class ProjectJobServiceImpl implements ProjectJobService {
+    private static final List<JobStatus> ACTIVE = List.of(JobStatus.QUEUED, JobStatus.RUNNING);
+    private static final int LEASE_LOST = -1;
+
+    private final ProjectJobRepository projectJobRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final MapperUtil mapperUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidator cacheInvalidator;
+    private final int chunkSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final String instanceId = UUID.randomUUID().toString(); // The lease owner.
+    private final Set<Long> dispatched = ConcurrentHashMap.newKeySet(); // Queued or running in this instance.
+    private final ThreadPoolExecutor workers;
+
+    public ProjectJobServiceImpl(ProjectJobRepository projectJobRepository, ProjectRepository projectRepository, TaskRepository taskRepository,
+                                 TaskService taskService, MapperUtil mapperUtil, TransactionTemplate transactionTemplate, CacheInvalidator cacheInvalidator,
+                                 MeterRegistry meterRegistry, @Value("${project-jobs.threads:2}") int threads,
+                                 @Value("${project-jobs.queue-capacity:50}") int queueCapacity,
+                                 @Value("${project-jobs.chunk-size:200}") int chunkSize,
+                                 @Value("${project-jobs.lease:5m}") Duration lease,
+                                 @Value("${project-jobs.max-attempts:3}") int maxAttempts) {
+        this.projectJobRepository = projectJobRepository;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.mapperUtil = mapperUtil;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheInvalidator = cacheInvalidator;
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+        Gauge.builder("project.jobs.queue.depth", workers, w -> w.getQueue().size()).register(meterRegistry);
+        Gauge.builder("project.jobs.active", workers, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+
+    @Override
+    public ProjectJobDTO submit(JobType jobType, String projectCode) {
+        Project project = projectRepository.findByProjectCode(projectCode);
+        if (project == null) {
+            return null;
+        }
+        ProjectJob existing = projectJobRepository.findFirstByProjectIdAndJobStatusIn(project.getId(), ACTIVE).orElse(null);
+        if (existing != null) {
+            return mapperUtil.convert(existing, new ProjectJobDTO());
+        }
+        ProjectJob job = new ProjectJob();
+        job.setJobType(jobType);
+        job.setJobStatus(JobStatus.QUEUED);
+        job.setProjectCode(projectCode);
+        job.setProjectId(project.getId());
+        job.setActiveProjectId(project.getId());
+        job.setCreatedDateTime(LocalDateTime.now());
+        try {
+            job = projectJobRepository.save(job);
+        } catch (DataIntegrityViolationException e) { // A concurrent submit inserted the project's active job first.
+            return projectJobRepository.findFirstByProjectIdAndJobStatusIn(project.getId(), ACTIVE)
+                    .map(active -> mapperUtil.convert(active, new ProjectJobDTO())).orElseThrow(() -> e);
+        }
+        if (!dispatch(job.getId())) {
+            finish(job.getId(), JobStatus.FAILED, "Rejected: the job queue is full.");
+            throw new BulkheadFullException("Too many project jobs are waiting, please retry later.");
+        }
+        return mapperUtil.convert(job, new ProjectJobDTO());
+    }
+
+    @Override
+    public ProjectJobDTO findById(Long id) {
+        return projectJobRepository.findById(id).map(job -> mapperUtil.convert(job, new ProjectJobDTO())).orElse(null);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${project-jobs.recovery-interval:PT1M}", fixedDelayString = "${project-jobs.recovery-interval:PT1M}")
+    public void recoverInterruptedJobs() {
+        for (Long jobId : projectJobRepository.findIdsWithoutLiveLease(ACTIVE, LocalDateTime.now())) {
+            if (!dispatched.contains(jobId) && !dispatch(jobId)) { // The queue is full: The rest waits for the next recovery.
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow(); // The running jobs stay RUNNING in the table, and continue after the restart.
+    }
+
+    private boolean dispatch(Long jobId) { // false when the queue is full.
+        if (!dispatched.add(jobId)) {
+            return true;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    dispatched.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            dispatched.remove(jobId);
+            return false;
+        }
+    }
+
+    private void run(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (projectJobRepository.claimLease(jobId, instanceId, now.plus(lease), now, ACTIVE) == 0) { // Finished, or running on another instance.
+            return;
+        }
+        try {
+            Boolean started = transactionTemplate.execute(status -> start(jobId)); // 1.
+            if (!Boolean.TRUE.equals(started)) {
+                return;
+            }
+            Integer processed;
+            do {
+                processed = transactionTemplate.execute(status -> processNextChunk(jobId)); // 2.
+            } while (processed != null && processed > 0 && !Thread.currentThread().isInterrupted());
+            if (processed != null && processed == LEASE_LOST) {
+                return;
+            }
+            if (!workers.isShutdown()) {
+                finish(jobId, JobStatus.SUCCEEDED, null); // 3.
+            }
+        } catch (RuntimeException e) {
+            if (!workers.isShutdown()) { // An interrupted shutdown is not a failure; the job is recovered after the restart.
+                retryOrFail(jobId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean start(Long jobId) {
+        ProjectJob job = projectJobRepository.findById(jobId).orElseThrow();
+        if (job.getJobStatus() == JobStatus.RUNNING) {
+            return true;
+        }
+        if (job.getJobStatus() != JobStatus.QUEUED) {
+            return false;
+        }
+        Project project = projectRepository.findById(job.getProjectId())
+                .orElseThrow(() -> new IllegalStateException("Project " + job.getProjectCode() + " does not exist anymore."));
+        cacheInvalidator.evict(CacheNames.PROJECTS, project.getProjectCode());
+        if (job.getJobType() == JobType.COMPLETE_PROJECT) {
+            project.setProjectStatus(Status.COMPLETE);
+            job.setTotalTasks(taskRepository.countByProjectIdAndTaskStatusIsNot(project.getId(), Status.COMPLETE));
+        } else {
+            project.setIsDeleted(true);
+            project.setProjectCode(project.getProjectCode() + "-" + project.getId()); // The same as ProjectServiceImpl.delete().
+            job.setTotalTasks(taskRepository.countByProjectId(project.getId()));
+        }
+        job.setJobStatus(JobStatus.RUNNING);
+        job.setStartedDateTime(LocalDateTime.now());
+        return true;
+    }
+
+    private int processNextChunk(Long jobId) {
+        if (projectJobRepository.renewLease(jobId, instanceId, LocalDateTime.now().plus(lease)) == 0) { // Before the job is loaded, so its saved progress keeps the new lease.
+            return LEASE_LOST;
+        }
+        ProjectJob job = projectJobRepository.findById(jobId).orElseThrow();
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+        boolean complete = job.getJobType() == JobType.COMPLETE_PROJECT;
+        List<Long> taskIds = complete
+                ? taskRepository.findIdsByProjectAndTaskStatusIsNotAfter(job.getProjectId(), Status.COMPLETE, job.getLastProcessedTaskId(), chunk)
+                : taskRepository.findIdsByProjectAfter(job.getProjectId(), job.getLastProcessedTaskId(), chunk);
+        if (!taskIds.isEmpty()) {
+            if (complete) {
+                taskService.completeTasks(taskIds);
+            } else {
+                taskService.deleteTasks(taskIds);
+            }
+            job.setLastProcessedTaskId(taskIds.get(taskIds.size() - 1));
+            job.setProcessedTasks(job.getProcessedTasks() + taskIds.size());
+        }
+        return taskIds.size();
+    }
+
+    private void retryOrFail(Long jobId, String errorMessage) {
+        transactionTemplate.executeWithoutResult(status -> projectJobRepository.findById(jobId)
+                .filter(job -> instanceId.equals(job.getLeaseOwner())) // Not after the lease was lost.
+                .ifPresent(job -> {
+                    job.setFailedAttempts(job.getFailedAttempts() + 1);
+                    if (job.getFailedAttempts() >= maxAttempts) {
+                        finished(job, JobStatus.FAILED, errorMessage);
+                        return;
+                    }
+                    job.setErrorMessage(errorMessage);
+                    job.setLeaseOwner(null); // The next recovery dispatches it again.
+                    job.setLeaseExpiresAt(null);
+                }));
+    }
+
+    private void finish(Long jobId, JobStatus jobStatus, String errorMessage) {
+        transactionTemplate.executeWithoutResult(status -> projectJobRepository.findById(jobId)
+                .filter(job -> job.getLeaseOwner() == null || job.getLeaseOwner().equals(instanceId)) // Not after the lease was lost.
+                .ifPresent(job -> finished(job, jobStatus, errorMessage)));
+    }
+
+    private static void finished(ProjectJob job, JobStatus jobStatus, String errorMessage) {
+        job.setJobStatus(jobStatus);
+        job.setErrorMessage(errorMessage);
+        job.setFinishedDateTime(LocalDateTime.now());
+        job.setActiveProjectId(null); // The project can get a new job.
+        job.setLeaseOwner(null);
+        job.setLeaseExpiresAt(null);
+    }
+
+}
@@ -1,44 +1,80 @@
 package com.company.service.impl;
+import com.company.annotation.Bulkhead;
+import com.company.cache.CacheInvalidator;
+import com.company.cache.CacheNames;
 import com.company.dto.ProjectDTO;
+import com.company.dto.ProjectFilterDTO;
 import com.company.dto.UserDTO;
 import com.company.entity.Project;
 import com.company.entity.User;
+import com.company.enums.OperationClass;
 import com.company.enums.Status;
 import com.company.mapper.ProjectMapper;
 import com.company.mapper.UserMapper;
 import com.company.repository.ProjectRepository;
+import com.company.repository.TaskRepository;
 import com.company.service.ProjectService;
 import com.company.service.TaskService;
 import com.company.service.UserService;
+import com.company.specification.IndexGuard;
+import com.company.specification.ProjectSpecifications;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/*
+ * 🖍️...
+ * · @Transactional at the class level: Every public method runs in one transaction. Ex: delete() renames the project, saves it,
+ *   and deletes its tasks; either all of it is committed or nothing is.
+ * · @Transactional(readOnly = true) on the read methods: Hibernate doesn't keep snapshots of the loaded entities and skips
+ *   dirty checking and flushing, because nothing will be written.
+ * · spring.jpa.open-in-view=false: The connection is released when the service method returns, not when the response is rendered.
+ *   That's why the DTOs are fully mapped inside the service methods.
+ * · getByProjectCode() is cached (Check CacheConfiguration class). Every method that changes a project evicts its code on every instance.
+ */
 @Service
+@Transactional
 public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final UserService userService;
     private final UserMapper userMapper;
     private final TaskService taskService;
-    public ProjectServiceImpl(ProjectRepository projectRepository, ProjectMapper projectMapper, @Lazy UserService userService, UserMapper userMapper, TaskService taskService) {
+    private final TaskRepository taskRepository;
+    private final IndexGuard projectIndexGuard;
+    private final CacheInvalidator cacheInvalidator;
+    public ProjectServiceImpl(ProjectRepository projectRepository, ProjectMapper projectMapper, @Lazy UserService userService, UserMapper userMapper, TaskService taskService, TaskRepository taskRepository, @Qualifier("projectIndexGuard") IndexGuard projectIndexGuard, CacheInvalidator cacheInvalidator) {
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
         this.userService = userService;
         this.userMapper = userMapper;
         this.taskService = taskService;
+        this.taskRepository = taskRepository;
+        this.projectIndexGuard = projectIndexGuard;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
 
 
     @Override
-    public ProjectDTO getByProjectCode(String code) {
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.PROJECTS, key = "#code", unless = "#result == null")
+    public ProjectDTO getByProjectCode(String code) { // null when there is no such project, like TaskService.findById().
         Project project = projectRepository.findByProjectCode(code);
-        return projectMapper.convertToDto(project);
+        return project == null ? null : projectMapper.convertToDto(project);
     }
 
     @Override
+    @Bulkhead(OperationClass.HEAVY_READ)
+    @Transactional(readOnly = true)
     public List<ProjectDTO> listAllProjects() {
         List<Project> list = projectRepository.findAll();
         return list.stream().map(projectMapper::convertToDto).collect(Collectors.toList());
@@ -62,12 +98,17 @@ public class ProjectServiceImpl implements ProjectService {
         Project convertedProject = projectMapper.convertToEntity(dto);
         convertedProject.setId(project.getId());
         convertedProject.setProjectStatus(project.getProjectStatus());
+        convertedProject.setOverdue(project.getOverdue()); // overdue is only changed by the overdue scan.
         projectRepository.save(convertedProject);
+        cacheInvalidator.evict(CacheNames.PROJECTS, dto.getProjectCode());
+        cacheInvalidator.evict(CacheNames.PROJECT_MANAGERS, project.getId()); // The manager may have changed.
     }
 
     @Override
+    @Bulkhead(OperationClass.BULK_WRITE)
     public void delete(String code) {
         Project project = projectRepository.findByProjectCode(code);
+        cacheInvalidator.evict(CacheNames.PROJECTS, code);
         project.setIsDeleted(true);
         project.setProjectCode(project.getProjectCode() + "-" + project.getId()); // Enables to create a new project with the same code that the deleted project had.
         projectRepository.save(project);
@@ -75,32 +116,49 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Bulkhead(OperationClass.BULK_WRITE)
     public void complete(String projectCode) {
         Project project = projectRepository.findByProjectCode(projectCode);
         project.setProjectStatus(Status.COMPLETE);
         projectRepository.save(project);
+        cacheInvalidator.evict(CacheNames.PROJECTS, projectCode);
         taskService.completeByProject(projectMapper.convertToDto(project));
     }
 
     @Override
+    @Bulkhead(OperationClass.HEAVY_READ)
+    @Transactional(readOnly = true)
     public List<ProjectDTO> listAllProjectDetails() {
         UserDTO currentUserDTO = userService.findByUserName("harold@manager.com");
         User user = userMapper.convertToEntity(currentUserDTO);
         List<Project> list = projectRepository.findAllByAssignedManager(user);
+        Map<Long, TaskRepository.ProjectTaskCounts> counts = taskRepository.countTasksOfManagerProjects(user).stream() // One query for all the projects, instead of two per project.
+                .collect(Collectors.toMap(TaskRepository.ProjectTaskCounts::getProjectId, Function.identity()));
         return list.stream().map(project -> {
             ProjectDTO obj = projectMapper.convertToDto(project);
-            obj.setUnfinishedTaskCounts(taskService.totalNonCompletedTask(project.getProjectCode()));
-            obj.setCompleteTaskCounts(taskService.totalCompletedTask(project.getProjectCode()));
+            TaskRepository.ProjectTaskCounts projectCounts = counts.get(project.getId());
+            if (projectCounts != null) {
+                obj.setUnfinishedTaskCounts(projectCounts.getUnfinishedTaskCounts().intValue());
+                obj.setCompleteTaskCounts(projectCounts.getCompleteTaskCounts().intValue());
+            }
             return obj;
         }).collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectDTO> readAllByAssignedManager(User assignedManager) {
         List<Project> list = projectRepository.findAllByAssignedManager(assignedManager);
         return list.stream().map(projectMapper::convertToDto).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectDTO> filter(ProjectFilterDTO filter, Pageable pageable) {
+        projectIndexGuard.check(ProjectSpecifications.equalityColumns(filter), pageable);
+        return projectRepository.findAll(ProjectSpecifications.of(filter), pageable).map(projectMapper::convertToDto);
+    }
+
 
 
 
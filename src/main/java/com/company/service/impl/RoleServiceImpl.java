@@ -1,14 +1,18 @@
 package com.company.service.impl;
+import com.company.cache.CacheNames;
 import com.company.dto.RoleDTO;
 import com.company.mapper.MapperUtil;
 import com.company.mapper.RoleMapper;
 import com.company.repository.RoleRepository;
 import com.company.service.RoleService;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional
 public class RoleServiceImpl implements RoleService {
     private final RoleRepository roleRepository;
     private final RoleMapper roleMapper;
@@ -21,6 +25,8 @@ public class RoleServiceImpl implements RoleService {
 
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.ROLES, key = "'all'") // The roles are only inserted by data.sql.
     public List<RoleDTO> listAllRoles() {
         /*
          * 🖍️...
@@ -34,6 +40,7 @@ public class RoleServiceImpl implements RoleService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public RoleDTO findById(Long id) {
 //        return roleMapper.convertToDto(roleRepository.findById(id).get());
         return mapperUtil.convert(roleRepository.findById(id).get(), new RoleDTO());
@@ -1,18 +1,44 @@
 package com.company.service.impl;
+import com.company.annotation.Bulkhead;
 import com.company.dto.ProjectDTO;
+import com.company.dto.TaskAssignmentDTO;
 import com.company.dto.TaskDTO;
+import com.company.dto.TaskDeltaDTO;
+import com.company.dto.TaskFilterDTO;
+import com.company.entity.BaseEntity;
+import com.company.entity.Project;
 import com.company.entity.Task;
 import com.company.entity.User;
+import com.company.enums.OperationClass;
 import com.company.enums.Status;
+import com.company.enums.TaskChangeType;
+import com.company.exception.TaskAssignmentException;
 import com.company.mapper.ProjectMapper;
 import com.company.mapper.TaskMapper;
+import com.company.repository.ProjectRepository;
 import com.company.repository.TaskRepository;
 import com.company.repository.UserRepository;
 import com.company.service.TaskService;
+import com.company.service.TaskThroughputService;
+import com.company.specification.IndexGuard;
+import com.company.specification.TaskSpecifications;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 /*
  * 🖍️...
@@ -22,21 +48,35 @@ import java.util.stream.Collectors;
  * · isPresent() method returns a boolean, and it checks if the optional contains the value or not.
  * · get() method will return the value if it is present in the optional. If Optional is empty, then it will return NoSuchElementException.
  *   We should use the isPresent() method before we call the get() method.
+ * · Every change publishes a TaskDeltaDTO. It is pushed to the SSE subscribers only after the transaction commits (Check TaskEventBroadcaster class).
  */
 @Service
+@Transactional
 public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final ProjectMapper projectMapper;
     private final UserRepository userRepository;
-    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper, ProjectMapper projectMapper, UserRepository userRepository) {
+    private final TaskThroughputService taskThroughputService;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IndexGuard taskIndexGuard;
+    private final int maxAssignmentBatchSize;
+    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper, ProjectMapper projectMapper, UserRepository userRepository, TaskThroughputService taskThroughputService, ProjectRepository projectRepository, ApplicationEventPublisher eventPublisher, @Qualifier("taskIndexGuard") IndexGuard taskIndexGuard,
+                           @Value("${task-assignment.max-batch-size:1000}") int maxAssignmentBatchSize) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
         this.projectMapper = projectMapper;
         this.userRepository = userRepository;
+        this.taskThroughputService = taskThroughputService;
+        this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.taskIndexGuard = taskIndexGuard;
+        this.maxAssignmentBatchSize = maxAssignmentBatchSize;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaskDTO findById(Long id) {
         Optional<Task> task = taskRepository.findById(id);
         if(task.isPresent()){
@@ -46,6 +86,8 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Bulkhead(OperationClass.HEAVY_READ)
+    @Transactional(readOnly = true)
     public List<TaskDTO> listAllTasks() {
         return taskRepository.findAll().stream().map(taskMapper::convertToDTO).collect(Collectors.toList());
     }
@@ -56,7 +98,9 @@ public class TaskServiceImpl implements TaskService {
         dto.setAssignedDate(LocalDate.now());
 //        Task task = taskMapper.convertToEntity(dto);
 //        taskRepository.save(task);
-        taskRepository.save(taskMapper.convertToEntity(dto));
+        Task savedTask = taskRepository.save(taskMapper.convertToEntity(dto));
+        taskThroughputService.recordTransition(savedTask, null, savedTask.getTaskStatus());
+        publishDelta(TaskChangeType.CREATED, savedTask, null, null);
     }
 
     @Override
@@ -67,7 +111,16 @@ public class TaskServiceImpl implements TaskService {
             convertedTask.setId(task.get().getId());
             convertedTask.setTaskStatus(dto.getTaskStatus() == null ? task.get().getTaskStatus() : dto.getTaskStatus());
             convertedTask.setAssignedDate(task.get().getAssignedDate());
+            convertedTask.setOverdue(task.get().getOverdue()); // overdue is only changed by the overdue scan.
+            Status previousStatus = task.get().getTaskStatus();
+            Long previousEmployeeId = idOf(task.get().getAssignedEmployee());
+            Long previousProjectId = idOf(task.get().getProject());
             taskRepository.save(convertedTask);
+            if (!Objects.equals(previousEmployeeId, idOf(convertedTask.getAssignedEmployee())) || !Objects.equals(previousProjectId, idOf(convertedTask.getProject()))) {
+                taskThroughputService.recordMoved(convertedTask); // Before recordTransition(): Moves the counts of the old assignment.
+            }
+            taskThroughputService.recordTransition(convertedTask, previousStatus, convertedTask.getTaskStatus());
+            publishDelta(TaskChangeType.UPDATED, convertedTask, previousStatus, previousEmployeeId);
         }
     }
 
@@ -77,35 +130,49 @@ public class TaskServiceImpl implements TaskService {
         if(foundTask.isPresent()){
             foundTask.get().setIsDeleted(true);
             taskRepository.save(foundTask.get());
+            taskThroughputService.recordDeleted(foundTask.get());
+            publishDelta(TaskChangeType.DELETED, foundTask.get(), foundTask.get().getTaskStatus(), null);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public int totalNonCompletedTask(String projectCode) {
-        return taskRepository.totalNonCompletedTasks(projectCode);
+        Long projectId = projectRepository.findIdByProjectCode(projectCode);
+        return projectId == null ? 0 : taskRepository.totalNonCompletedTasks(projectId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public int totalCompletedTask(String projectCode) {
-        return taskRepository.totalCompletedTasks(projectCode);
+        Long projectId = projectRepository.findIdByProjectCode(projectCode);
+        return projectId == null ? 0 : taskRepository.totalCompletedTasks(projectId);
     }
 
     @Override
-    public void deleteByProject(ProjectDTO project) {
-        List<TaskDTO> list = listAllByProject(project);
-        list.forEach(taskDTO -> delete(taskDTO.getId()));
+    @Bulkhead(OperationClass.BULK_WRITE)
+    public void deleteByProject(ProjectDTO project) { // Like delete() for every task, with the throughput bookkeeping of all of them at once.
+        softDelete(taskRepository.findAllByProject(projectMapper.convertToEntity(project)));
     }
 
     @Override
-    public void completeByProject(ProjectDTO project) {
-        List<TaskDTO> list = listAllByProject(project);
-        list.forEach(taskDTO -> {
-            taskDTO.setTaskStatus(Status.COMPLETE);
-            update(taskDTO);
-        });
+    @Bulkhead(OperationClass.BULK_WRITE)
+    public void completeByProject(ProjectDTO project) { // Like update() with COMPLETE for every task, with the throughput bookkeeping of all of them at once.
+        complete(taskRepository.findAllByProject(projectMapper.convertToEntity(project)));
+    }
+
+    @Override
+    public void completeTasks(List<Long> taskIds) { // A chunk of a ProjectJob, which runs on its own bounded pool, so no @Bulkhead (Check ProjectJobServiceImpl class).
+        complete(taskRepository.findAllByIdIn(taskIds));
     }
 
     @Override
+    public void deleteTasks(List<Long> taskIds) {
+        softDelete(taskRepository.findAllByIdIn(taskIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<TaskDTO> listAllTasksByStatusIsNot(Status status) { // listAllTasksByStatusIsNot(Status.COMPLETE) or etc...
         User loggedInUser = userRepository.findByUserName("john@employee.com");
         List<Task> list = taskRepository.findAllByTaskStatusIsNotAndAssignedEmployee(status, loggedInUser);
@@ -116,12 +183,16 @@ public class TaskServiceImpl implements TaskService {
     public void updateStatus(TaskDTO dto) {
         Optional<Task> task = taskRepository.findById(dto.getId());
         if (task.isPresent()) {
+            Status previousStatus = task.get().getTaskStatus();
             task.get().setTaskStatus(dto.getTaskStatus());
             taskRepository.save(task.get());
+            taskThroughputService.recordTransition(task.get(), previousStatus, dto.getTaskStatus());
+            publishDelta(TaskChangeType.STATUS_CHANGED, task.get(), previousStatus, null);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskDTO> listAllTasksByStatus(Status status) { // listAllTasksByStatus(Status.COMPLETE)); or etc...
         User loggedInUser = userRepository.findByUserName("john@employee.com");
         List<Task> list = taskRepository.findAllByTaskStatusAndAssignedEmployee(status, loggedInUser);
@@ -129,14 +200,104 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskDTO> readAllByAssignedEmployee(User assignedEmployee) {
         List<Task> list = taskRepository.findAllByAssignedEmployee(assignedEmployee);
         return list.stream().map(taskMapper::convertToDTO).collect(Collectors.toList());
     }
 
-    private List<TaskDTO> listAllByProject(ProjectDTO project) {
-        List<Task> list = taskRepository.findAllByProject(projectMapper.convertToEntity(project));
-        return list.stream().map(taskMapper::convertToDTO).collect(Collectors.toList());
+    @Override
+    @Bulkhead(OperationClass.BULK_WRITE)
+    public int assignAll(String projectCode, List<TaskAssignmentDTO> assignments) {
+        /*
+         * 🖍️...
+         * 1. Validate the size of the batch, the project with one query, and all the employees with one query.
+         * 2. Build the tasks with the same defaults as save(): taskStatus = OPEN, assignedDate = today.
+         * 3. Insert all the tasks in one JDBC batch (Check TaskRepositoryImpl class).
+         * 4. Record the creations in the status history and the daily rollups, and publish them to the SSE subscribers.
+         * · The class level @Transactional: If any step fails, none of the tasks is saved.
+         */
+        if (assignments.size() > maxAssignmentBatchSize) { // 1.
+            throw new TaskAssignmentException("At most " + maxAssignmentBatchSize + " tasks can be assigned in one request.");
+        }
+        Project project = projectRepository.findByProjectCode(projectCode);
+        if (project == null) {
+            throw new TaskAssignmentException("Project " + projectCode + " does not exist.");
+        }
+        if (assignments.isEmpty()) {
+            return 0;
+        }
+        Set<Long> employeeIds = assignments.stream().map(TaskAssignmentDTO::getAssignedEmployeeId).collect(Collectors.toSet());
+        if (employeeIds.contains(null)) {
+            throw new TaskAssignmentException("Every assignment needs an assignedEmployeeId.");
+        }
+        Map<Long, User> employees = userRepository.findAllByIdInAndRoleDescriptionIgnoreCase(employeeIds, "Employee").stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (employees.size() != employeeIds.size()) {
+            employeeIds.removeAll(employees.keySet());
+            throw new TaskAssignmentException("Users " + employeeIds + " are not employees.");
+        }
+        LocalDate today = LocalDate.now(); // 2.
+        List<Task> tasks = new ArrayList<>();
+        for (TaskAssignmentDTO assignment : assignments) {
+            Task task = new Task();
+            task.setProject(project);
+            task.setAssignedEmployee(employees.get(assignment.getAssignedEmployeeId()));
+            task.setTaskSubject(assignment.getTaskSubject());
+            task.setTaskDetail(assignment.getTaskDetail());
+            task.setTaskStatus(Status.OPEN);
+            task.setAssignedDate(today);
+            tasks.add(task);
+        }
+        taskRepository.batchInsert(tasks); // 3.
+        taskThroughputService.recordCreated(tasks); // 4.
+        tasks.forEach(task -> publishDelta(TaskChangeType.CREATED, task, null, null));
+        return tasks.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskDTO> filter(TaskFilterDTO filter, Pageable pageable) {
+        taskIndexGuard.check(TaskSpecifications.equalityColumns(filter), pageable); // Before the query: an unindexed filter never reaches the database.
+        return taskRepository.findAll(TaskSpecifications.of(filter), pageable).map(taskMapper::convertToDTO);
+    }
+
+    private void softDelete(List<Task> tasks) {
+        tasks.forEach(task -> task.setIsDeleted(true));
+        taskRepository.saveAll(tasks); // JDBC batches of updates at the flush.
+        taskThroughputService.recordDeleted(tasks);
+        tasks.forEach(task -> publishDelta(TaskChangeType.DELETED, task, task.getTaskStatus(), null));
+    }
+
+    private void complete(List<Task> tasks) {
+        Map<Long, Status> previousStatuses = new HashMap<>();
+        tasks.forEach(task -> {
+            previousStatuses.put(task.getId(), task.getTaskStatus());
+            task.setTaskStatus(Status.COMPLETE);
+        });
+        taskRepository.saveAll(tasks); // JDBC batches of updates at the flush.
+        taskThroughputService.recordTransitions(tasks, previousStatuses);
+        tasks.forEach(task -> publishDelta(TaskChangeType.UPDATED, task, previousStatuses.get(task.getId()), null));
+    }
+
+    private void publishDelta(TaskChangeType type, Task task, Status previousStatus, Long previousEmployeeId) {
+        Long employeeId = idOf(task.getAssignedEmployee());
+        eventPublisher.publishEvent(new TaskDeltaDTO(type, task.getId(), idOf(task.getProject()), managerIdOf(task.getProject()), employeeId,
+                previousEmployeeId == null || previousEmployeeId.equals(employeeId) ? null : previousEmployeeId, previousStatus, task.getTaskStatus(), task.getAssignedDate()));
+    }
+
+    private Long managerIdOf(Project project) { // Inside the transaction, so the after-commit listener never runs a query.
+        if (project == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(project) && project.getAssignedManager() != null) {
+            return project.getAssignedManager().getId();
+        }
+        return projectRepository.findManagerIdById(project.getId()); // An id-only reference: cached per project (Check CacheNames class).
+    }
+
+    private static Long idOf(BaseEntity entity) {
+        return entity == null ? null : entity.getId();
     }
 
 
@@ -0,0 +1,234 @@
+package com.company.service.impl;
+import com.company.dto.TaskThroughputDTO;
+import com.company.entity.Project;
+import com.company.entity.Task;
+import com.company.entity.TaskDailyRollup;
+import com.company.entity.TaskStatusHistory;
+import com.company.entity.User;
+import com.company.enums.Status;
+import com.company.repository.ProjectRepository;
+import com.company.repository.TaskDailyRollupRepository;
+import com.company.repository.TaskStatusHistoryRepository;
+import com.company.repository.UserRepository;
+import com.company.service.TaskThroughputService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+/*
+ * 🖍️...
+ * · recordTransition() is called by TaskServiceImpl whenever a task is created or its status changes. It appends a
+ *   TaskStatusHistory row and increments the rollup row of today for the task's project and employee.
+ * · recordMoved() and recordDeleted() correct the rollups afterwards: They replay the task's history rows, subtract
+ *   every counted transition from the rollup row it was counted in (same day, old project and employee), and for a
+ *   move add it again to the new project and employee. So the report of any range stays equal to the history.
+ * · recordCreated(), recordTransitions() and recordDeleted(tasks) are the batch versions for the bulk paths (Ex: completeByProject):
+ *   One history statement per 1000 tasks and one rollup upsert per (day, project, employee), however many tasks there are.
+ * · The report methods read only rollup rows, and return one TaskThroughputDTO per day of the range (days without any
+ *   activity are returned with zero counts), so the cost depends on the number of days, not the number of tasks.
+ */
+@Service
+@Transactional
+public class TaskThroughputServiceImpl implements TaskThroughputService {
+    private static final int IDS_PER_STATEMENT = 1000;
+    private final TaskStatusHistoryRepository taskStatusHistoryRepository;
+    private final TaskDailyRollupRepository taskDailyRollupRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    public TaskThroughputServiceImpl(TaskStatusHistoryRepository taskStatusHistoryRepository, TaskDailyRollupRepository taskDailyRollupRepository, ProjectRepository projectRepository, UserRepository userRepository) {
+        this.taskStatusHistoryRepository = taskStatusHistoryRepository;
+        this.taskDailyRollupRepository = taskDailyRollupRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+    }
+
+
+    @Override
+    public void recordTransition(Task task, Status fromStatus, Status toStatus) {
+        if (fromStatus == toStatus || task.getProject() == null || task.getAssignedEmployee() == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        TaskStatusHistory history = new TaskStatusHistory();
+        history.setTaskId(task.getId());
+        history.setProjectId(task.getProject().getId());
+        history.setEmployeeId(task.getAssignedEmployee().getId());
+        history.setFromStatus(fromStatus);
+        history.setToStatus(toStatus);
+        history.setTransitionDateTime(now);
+        taskStatusHistoryRepository.save(history);
+
+        long[] deltas = deltas(fromStatus, toStatus, task.getAssignedDate(), now.toLocalDate());
+        if (deltas[0] + deltas[1] + deltas[2] > 0) { // OPEN <-> IN_PROGRESS moves are kept in the history only.
+            taskDailyRollupRepository.increment(now.toLocalDate(), task.getProject().getId(), task.getAssignedEmployee().getId(), deltas[0], deltas[1], deltas[2], deltas[3]);
+        }
+    }
+
+    @Override
+    public void recordTransitions(List<Task> tasks, Map<Long, Status> fromStatuses) { // Batch version of recordTransition() for tasks that are already saved.
+        LocalDateTime now = LocalDateTime.now();
+        Map<List<Status>, List<Long>> idsByTransition = new HashMap<>();
+        Map<List<Long>, long[]> deltasByProjectAndEmployee = new HashMap<>();
+        for (Task task : tasks) {
+            Status fromStatus = fromStatuses.get(task.getId());
+            if (fromStatus == null || fromStatus == task.getTaskStatus() || task.getProject() == null || task.getAssignedEmployee() == null) {
+                continue;
+            }
+            idsByTransition.computeIfAbsent(List.of(fromStatus, task.getTaskStatus()), key -> new ArrayList<>()).add(task.getId());
+            long[] deltas = deltas(fromStatus, task.getTaskStatus(), task.getAssignedDate(), now.toLocalDate());
+            long[] sum = deltasByProjectAndEmployee.computeIfAbsent(List.of(task.getProject().getId(), task.getAssignedEmployee().getId()), key -> new long[4]);
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] += deltas[i];
+            }
+        }
+        idsByTransition.forEach((transition, taskIds) -> {
+            for (int from = 0; from < taskIds.size(); from += IDS_PER_STATEMENT) {
+                taskStatusHistoryRepository.insertTransitions(taskIds.subList(from, Math.min(from + IDS_PER_STATEMENT, taskIds.size())),
+                        transition.get(0).getCode(), transition.get(1).getCode(), now);
+            }
+        });
+        deltasByProjectAndEmployee.forEach((key, sum) -> {
+            if (sum[0] != 0 || sum[1] != 0 || sum[2] != 0) {
+                taskDailyRollupRepository.increment(now.toLocalDate(), key.get(0), key.get(1), sum[0], sum[1], sum[2], sum[3]);
+            }
+        });
+    }
+
+    @Override
+    public void recordMoved(Task task) {
+        if (task.getProject() == null || task.getAssignedEmployee() == null) {
+            return;
+        }
+        Long projectId = task.getProject().getId();
+        Long employeeId = task.getAssignedEmployee().getId();
+        List<TaskStatusHistory> moved = taskStatusHistoryRepository.findAllByTaskIdOrderByTransitionDateTime(task.getId()).stream()
+                .filter(history -> !projectId.equals(history.getProjectId()) || !employeeId.equals(history.getEmployeeId()))
+                .collect(Collectors.toList());
+        if (moved.isEmpty()) {
+            return;
+        }
+        applyToRollups(moved, taskId -> task.getAssignedDate(), -1);
+        moved.forEach(history -> {
+            history.setProjectId(projectId);
+            history.setEmployeeId(employeeId);
+        });
+        taskStatusHistoryRepository.saveAll(moved);
+        applyToRollups(moved, taskId -> task.getAssignedDate(), 1);
+    }
+
+    @Override
+    public void recordDeleted(Task task) { // The history rows are kept; only their counts leave the rollups.
+        applyToRollups(taskStatusHistoryRepository.findAllByTaskIdOrderByTransitionDateTime(task.getId()), taskId -> task.getAssignedDate(), -1);
+    }
+
+    @Override
+    public void recordDeleted(List<Task> tasks) { // Batch version: One history query per 1000 tasks.
+        Map<Long, LocalDate> assignedDates = new HashMap<>();
+        tasks.forEach(task -> assignedDates.put(task.getId(), task.getAssignedDate()));
+        List<Long> taskIds = new ArrayList<>(assignedDates.keySet());
+        List<TaskStatusHistory> histories = new ArrayList<>();
+        for (int from = 0; from < taskIds.size(); from += IDS_PER_STATEMENT) {
+            histories.addAll(taskStatusHistoryRepository.findAllByTaskIdIn(taskIds.subList(from, Math.min(from + IDS_PER_STATEMENT, taskIds.size()))));
+        }
+        applyToRollups(histories, assignedDates::get, -1);
+    }
+
+    @Override
+    public void recordCreated(List<Task> tasks) { // Batch version of recordTransition(task, null, OPEN): One history statement and one rollup upsert per (project, employee).
+        if (tasks.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> taskIds = tasks.stream().map(Task::getId).collect(Collectors.toList());
+        for (int from = 0; from < taskIds.size(); from += IDS_PER_STATEMENT) { // One bind parameter per id: Postgres allows 32767 per statement.
+            taskStatusHistoryRepository.insertCreatedTasks(taskIds.subList(from, Math.min(from + IDS_PER_STATEMENT, taskIds.size())), now);
+        }
+        Map<List<Long>, Long> createdByProjectAndEmployee = tasks.stream()
+                .collect(Collectors.groupingBy(task -> List.of(task.getProject().getId(), task.getAssignedEmployee().getId()), Collectors.counting()));
+        createdByProjectAndEmployee.forEach((key, created) ->
+                taskDailyRollupRepository.increment(now.toLocalDate(), key.get(0), key.get(1), created, 0, 0, 0));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskThroughputDTO> listDailyThroughputByProject(String projectCode, LocalDate from, LocalDate to) {
+        Project project = projectRepository.findByProjectCode(projectCode);
+        if (project == null) {
+            return Collections.emptyList();
+        }
+        return toDailySeries(taskDailyRollupRepository.findAllByProjectIdAndRollupDateBetween(project.getId(), from, to), from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskThroughputDTO> listDailyThroughputByEmployee(String username, LocalDate from, LocalDate to) {
+        User employee = userRepository.findByUserName(username);
+        if (employee == null) {
+            return Collections.emptyList();
+        }
+        return toDailySeries(taskDailyRollupRepository.findAllByEmployeeIdAndRollupDateBetween(employee.getId(), from, to), from, to);
+    }
+
+    private List<TaskThroughputDTO> toDailySeries(List<TaskDailyRollup> rollups, LocalDate from, LocalDate to) {
+        Map<LocalDate, TaskThroughputDTO> byDate = new HashMap<>();
+        Map<LocalDate, Long> cycleTimeByDate = new HashMap<>();
+        for (TaskDailyRollup rollup : rollups) {
+            TaskThroughputDTO dto = byDate.computeIfAbsent(rollup.getRollupDate(), this::emptyDay);
+            dto.setCreatedCount(dto.getCreatedCount() + rollup.getCreatedCount());
+            dto.setCompletedCount(dto.getCompletedCount() + rollup.getCompletedCount());
+            dto.setReopenedCount(dto.getReopenedCount() + rollup.getReopenedCount());
+            cycleTimeByDate.merge(rollup.getRollupDate(), rollup.getCycleTimeDays(), Long::sum);
+        }
+        List<TaskThroughputDTO> series = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            TaskThroughputDTO dto = byDate.getOrDefault(date, emptyDay(date));
+            if (dto.getCompletedCount() > 0) {
+                dto.setAverageCycleTimeDays((double) cycleTimeByDate.get(date) / dto.getCompletedCount());
+            }
+            series.add(dto);
+        }
+        return series;
+    }
+
+    private void applyToRollups(List<TaskStatusHistory> histories, Function<Long, LocalDate> assignedDateOfTask, long sign) { // One upsert per (day, project, employee).
+        Map<List<Object>, long[]> deltasByRow = new HashMap<>();
+        for (TaskStatusHistory history : histories) {
+            LocalDate day = history.getTransitionDateTime().toLocalDate();
+            long[] deltas = deltas(history.getFromStatus(), history.getToStatus(), assignedDateOfTask.apply(history.getTaskId()), day);
+            long[] sum = deltasByRow.computeIfAbsent(List.of(day, history.getProjectId(), history.getEmployeeId()), key -> new long[4]);
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] += sign * deltas[i];
+            }
+        }
+        deltasByRow.forEach((key, sum) -> {
+            if (sum[0] != 0 || sum[1] != 0 || sum[2] != 0) {
+                taskDailyRollupRepository.increment((LocalDate) key.get(0), (Long) key.get(1), (Long) key.get(2), sum[0], sum[1], sum[2], sum[3]);
+            }
+        });
+    }
+
+    private static long[] deltas(Status fromStatus, Status toStatus, LocalDate assignedDate, LocalDate day) { // {created, completed, reopened, cycleTimeDays}
+        long created = fromStatus == null ? 1 : 0;
+        long completed = toStatus == Status.COMPLETE ? 1 : 0;
+        long reopened = fromStatus == Status.COMPLETE ? 1 : 0;
+        long cycleTimeDays = completed == 1 && assignedDate != null ? ChronoUnit.DAYS.between(assignedDate, day) : 0;
+        return new long[]{created, completed, reopened, cycleTimeDays};
+    }
+
+    private TaskThroughputDTO emptyDay(LocalDate date) {
+        TaskThroughputDTO dto = new TaskThroughputDTO();
+        dto.setDate(date);
+        return dto;
+    }
+
+
+
+}
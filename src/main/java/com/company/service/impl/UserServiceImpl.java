@@ -1,33 +1,58 @@
 package com.company.service.impl;
+import com.company.cache.CacheInvalidator;
+import com.company.cache.CacheNames;
 import com.company.dto.ProjectDTO;
 import com.company.dto.TaskDTO;
 import com.company.dto.UserDTO;
 import com.company.entity.User;
 import com.company.mapper.UserMapper;
 import com.company.repository.UserRepository;
+import com.company.security.PasswordHasher;
 import com.company.service.ProjectService;
 import com.company.service.TaskService;
 import com.company.service.UserService;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.List;
 import java.util.stream.Collectors;
-
+/*
+ * 🖍️...
+ * · Passwords are stored as bcrypt hashes. The hashing runs on PasswordHasher's own pool, not on the request thread.
+ * · save(), update() and authenticate() hash and match outside of any transaction (Propagation.NOT_SUPPORTED): Waiting for the
+ *   hashing pool (up to password-hashing.max-wait) must not hold a pooled connection. Their database work runs afterwards,
+ *   in short transactions of its own.
+ * · update(): A blank passWord, or a bcrypt hash (the current hash sent back by the form), keeps the current hash, so the update
+ *   form doesn't need to send the password again.
+ * · findByUserName() is cached (Check CacheConfiguration class). Every method that changes a user evicts it on every instance.
+ *   update() also evicts the projects cache, because a ProjectDTO holds its manager's UserDTO.
+ */
 @Service
+@Transactional
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final ProjectService projectService;
     private final TaskService taskService;
-    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper, ProjectService projectService, TaskService taskService) {
+    private final PasswordHasher passwordHasher;
+    private final CacheInvalidator cacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    public UserServiceImpl(UserRepository userRepository, UserMapper userMapper, ProjectService projectService, TaskService taskService, PasswordHasher passwordHasher, CacheInvalidator cacheInvalidator, TransactionTemplate transactionTemplate) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.projectService = projectService;
         this.taskService = taskService;
+        this.passwordHasher = passwordHasher;
+        this.cacheInvalidator = cacheInvalidator;
+        this.transactionTemplate = transactionTemplate;
     }
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> listAllUsers() {
         List<User> userList = userRepository.findAll(Sort.by("firstName"));
         return userList.stream().map(p-> userMapper.convertToDTO(p)).collect(Collectors.toList());
@@ -35,31 +60,43 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public UserDTO findByUserName(String username) {
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#username", unless = "#result == null")
+    public UserDTO findByUserName(String username) { // null when there is no such user, like TaskService.findById().
         User user = userRepository.findByUserName(username);
-        return userMapper.convertToDTO(user);
+        return user == null ? null : userMapper.convertToDTO(user);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void save(UserDTO dto) {
         dto.setEnabled(true);
         User obj = userMapper.convertToEntity(dto);
-        userRepository.save(obj);
+        obj.setPassWord(dto.getPassWord() == null ? null : passwordHasher.hash(dto.getPassWord()));
+        userRepository.save(obj); // The repository's own transaction.
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDTO update(UserDTO dto) {
         /*
          * 🖍️...
          * 1. Find the current user to capture the ID. Getting the user ID from the Database.
          * 2. Map updated userDto to entity object. Convert dto, which has no ID, to an entity (In the User Create view, there is no id field).
          * 3. Set the ID to the converted object (Set "convertedUser" id to "user" id).
-         * 4. Save updated user (Save "convertedUser" in DB).
+         * 4. Set the new password's hash (made before the transaction), or keep the current hash when no password is sent.
+         * 5. Save updated user (Save "convertedUser" in DB).
          */
-        User user = userRepository.findByUserName(dto.getUserName()); // 1.
-        User convertedUser = userMapper.convertToEntity(dto); // 2.
-        convertedUser.setId(user.getId()); // 3.
-        userRepository.save(convertedUser); // 4.
+        String newHash = keepsPassword(dto) ? null : passwordHasher.hash(dto.getPassWord());
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByUserName(dto.getUserName()); // 1.
+            User convertedUser = userMapper.convertToEntity(dto); // 2.
+            convertedUser.setId(user.getId()); // 3.
+            convertedUser.setPassWord(newHash == null ? user.getPassWord() : newHash); // 4.
+            userRepository.save(convertedUser); // 5.
+            cacheInvalidator.evict(CacheNames.USERS, dto.getUserName());
+            cacheInvalidator.evictAll(CacheNames.PROJECTS);
+        });
         return findByUserName(dto.getUserName());
     }
 
@@ -67,6 +104,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteByUserName(String username) {
         userRepository.deleteByUserName(username);
+        cacheInvalidator.evict(CacheNames.USERS, username);
     }
 
     @Override
@@ -77,9 +115,14 @@ public class UserServiceImpl implements UserService {
             // While the flag of the userName changes in DB, we add the "-" sign at the end of the userName, so we can reuse it to create a new user.
             user.setUserName(user.getUserName() + "-" + user.getId());
             userRepository.save(user);
+            cacheInvalidator.evict(CacheNames.USERS, username);
         }
     }
 
+    private boolean keepsPassword(UserDTO dto) { // No new password, or the current hash sent back by the client. A hash is never hashed again.
+        return dto.getPassWord() == null || dto.getPassWord().isBlank() || passwordHasher.isHash(dto.getPassWord());
+    }
+
     private boolean checkIfUserCanBeDeleted(User user) {
         switch (user.getRole().getDescription()) {
             case "Manager":
@@ -94,11 +137,28 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> listAllByRole(String role) {
         List<User> users = userRepository.findAllByRoleDescriptionIgnoreCase(role);
         return users.stream().map(userMapper::convertToDTO).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean authenticate(String username, String rawPassword) {
+        User user = userRepository.findByUserName(username); // The repository's own read-only transaction; the connection is returned before matching.
+        boolean known = user != null && user.isEnabled();
+        if (!passwordHasher.matches(rawPassword, known ? user.getPassWord() : null) || !known) { // Unknown and disabled users are matched against a dummy hash.
+            return false;
+        }
+        if (passwordHasher.needsRehash(user.getPassWord())) { // password-hashing.cost was changed: The raw password is only known now.
+            if (userRepository.updatePassWord(user.getId(), user.getPassWord(), passwordHasher.hash(rawPassword)) > 0) { // Unless it was changed meanwhile.
+                cacheInvalidator.evict(CacheNames.USERS, username);
+            }
+        }
+        return true;
+    }
+
 
 
 
@@ -0,0 +1,65 @@
+package com.company.specification;
+import com.company.exception.UnindexedFilterException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+/*
+ * 🖍️...
+ * · Rejects a filter that no index of the table can serve, before the query runs.
+ *   A B-tree index can only be used when its leading (first) column has an equality predicate. Ex: The index
+ *   (project_id, task_status, assigned_date) serves "project = ? AND status IN (?)", but not "status IN (?)" alone.
+ * · Small tables are always allowed: scanning a few thousand rows is cheaper than the rules are worth.
+ *   The row count is cached for rowCountTtlMillis. It is an estimate from the statistics, not a COUNT(*) (Check TableRowEstimate class).
+ * · Sorting is limited to the given properties, and the page size to maxPageSize.
+ */
+public class IndexGuard {
+    private final String table;
+    private final List<String> leadingColumns;
+    private final Set<String> sortableProperties;
+    private final long largeTableRows;
+    private final int maxPageSize;
+    private final long rowCountTtlMillis;
+    private final LongSupplier rowCounter;
+    private volatile long cachedRowCount = -1;
+    private volatile long rowCountExpiresAt;
+
+    public IndexGuard(String table, List<String> leadingColumns, Set<String> sortableProperties,
+                      long largeTableRows, int maxPageSize, long rowCountTtlMillis, LongSupplier rowCounter) {
+        this.table = table;
+        this.leadingColumns = leadingColumns;
+        this.sortableProperties = sortableProperties;
+        this.largeTableRows = largeTableRows;
+        this.maxPageSize = maxPageSize;
+        this.rowCountTtlMillis = rowCountTtlMillis;
+        this.rowCounter = rowCounter;
+    }
+
+
+    public void check(Set<String> equalityColumns, Pageable pageable) {
+        if (pageable.isPaged() && pageable.getPageSize() > maxPageSize) {
+            throw new UnindexedFilterException("Page size of " + table + " can be at most " + maxPageSize + ".");
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!sortableProperties.contains(order.getProperty())) {
+                throw new UnindexedFilterException(table + " can only be sorted by " + sortableProperties + ".");
+            }
+        }
+        if (leadingColumns.stream().anyMatch(equalityColumns::contains) || rowCount() < largeTableRows) {
+            return;
+        }
+        throw new UnindexedFilterException("Filter on " + table + " needs one of " + leadingColumns + ", because no index can serve "
+                + (equalityColumns.isEmpty() ? "an empty filter" : equalityColumns) + ".");
+    }
+
+    private long rowCount() {
+        long now = System.currentTimeMillis();
+        if (cachedRowCount < 0 || now >= rowCountExpiresAt) {
+            cachedRowCount = rowCounter.getAsLong();
+            rowCountExpiresAt = now + rowCountTtlMillis;
+        }
+        return cachedRowCount;
+    }
+
+}
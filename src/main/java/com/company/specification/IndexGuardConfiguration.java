@@ -0,0 +1,35 @@
+package com.company.specification;
+import com.company.repository.ProjectRepository;
+import com.company.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+public class IndexGuardConfiguration {
+
+    @Value("${filter-guard.large-table-rows:10000}")
+    private long largeTableRows;
+    @Value("${filter-guard.max-page-size:200}")
+    private int maxPageSize;
+    @Value("${filter-guard.row-count-ttl:5m}")
+    private Duration rowCountTtl;
+
+
+    @Bean
+    public IndexGuard taskIndexGuard(TaskRepository taskRepository, JdbcTemplate jdbcTemplate) {
+        return new IndexGuard("tasks", List.of(TaskSpecifications.PROJECT, TaskSpecifications.ASSIGNED_EMPLOYEE),
+                Set.of("id", "assignedDate", "taskStatus"), largeTableRows, maxPageSize, rowCountTtl.toMillis(), new TableRowEstimate(jdbcTemplate, "tasks", taskRepository::count));
+    }
+
+    @Bean
+    public IndexGuard projectIndexGuard(ProjectRepository projectRepository, JdbcTemplate jdbcTemplate) {
+        return new IndexGuard("projects", List.of(ProjectSpecifications.ASSIGNED_MANAGER, ProjectSpecifications.PROJECT_CODE),
+                Set.of("id", "projectCode", "startDate", "endDate", "projectStatus"), largeTableRows, maxPageSize, rowCountTtl.toMillis(), new TableRowEstimate(jdbcTemplate, "projects", projectRepository::count));
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.company.specification;
+import com.company.dto.ProjectFilterDTO;
+import com.company.entity.Project;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.LinkedHashSet;
+import java.util.Set;
+/*
+ * 🖍️...
+ * · The same as TaskSpecifications, for the index (manager_id, project_status, end_date) and the unique project_code.
+ */
+public class ProjectSpecifications {
+    public static final String ASSIGNED_MANAGER = "assignedManager";
+    public static final String PROJECT_CODE = "projectCode";
+
+    private ProjectSpecifications() {
+    }
+
+
+    public static Specification<Project> of(ProjectFilterDTO filter) {
+        Specification<Project> specification = Specification.where(null);
+        if (filter.getAssignedManagerId() != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("assignedManager").get("id"), filter.getAssignedManagerId()));
+        }
+        if (filter.getProjectCode() != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("projectCode"), filter.getProjectCode()));
+        }
+        if (filter.getProjectStatus() != null && !filter.getProjectStatus().isEmpty()) {
+            specification = specification.and((root, query, cb) -> root.get("projectStatus").in(filter.getProjectStatus()));
+        }
+        if (filter.getEndFrom() != null) {
+            specification = specification.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("endDate"), filter.getEndFrom()));
+        }
+        if (filter.getEndTo() != null) {
+            specification = specification.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("endDate"), filter.getEndTo()));
+        }
+        return specification;
+    }
+
+    public static Set<String> equalityColumns(ProjectFilterDTO filter) {
+        Set<String> columns = new LinkedHashSet<>();
+        if (filter.getAssignedManagerId() != null) {
+            columns.add(ASSIGNED_MANAGER);
+        }
+        if (filter.getProjectCode() != null) {
+            columns.add(PROJECT_CODE);
+        }
+        return columns;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.company.specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+/*
+ * 🖍️...
+ * · The row count of IndexGuard, without a COUNT(*): On a large table that is a full scan, the very thing the guard prevents.
+ * · Postgres: pg_class.reltuples, the planner's own estimate, kept current by (auto)vacuum and analyze. Autovacuum never analyzes
+ *   a partitioned table itself, only its partitions, so without an estimate of its own the partitions are summed up
+ *   (Check db/tasks-partitioned.sql).
+ * · A table that was never analyzed (reltuples = -1), or another database (H2 in the "test" profile): the exact count.
+ *   That only happens while the table is new, and so small.
+ */
+public class TableRowEstimate implements LongSupplier {
+    private static final String ESTIMATE = "SELECT c.reltuples::bigint AS own, (SELECT SUM(p.reltuples)::bigint FROM pg_inherits i JOIN pg_class p ON p.oid = i.inhrelid " +
+            "WHERE i.inhparent = c.oid AND p.reltuples >= 0) AS partitions FROM pg_class c WHERE c.oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final LongSupplier exactCount;
+    private volatile Boolean postgres; // Known after the first call.
+
+    public TableRowEstimate(JdbcTemplate jdbcTemplate, String table, LongSupplier exactCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.exactCount = exactCount;
+    }
+
+
+    @Override
+    public long getAsLong() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        if (Boolean.TRUE.equals(postgres)) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(ESTIMATE, table);
+            Number own = rows.isEmpty() ? null : (Number) rows.get(0).get("own");
+            Number partitions = rows.isEmpty() ? null : (Number) rows.get(0).get("partitions");
+            if (own != null && own.longValue() >= 0) {
+                return own.longValue();
+            }
+            if (partitions != null) {
+                return partitions.longValue();
+            }
+        }
+        return exactCount.getAsLong();
+    }
+
+}
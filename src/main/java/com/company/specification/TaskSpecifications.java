@@ -0,0 +1,57 @@
+package com.company.specification;
+import com.company.dto.TaskFilterDTO;
+import com.company.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.LinkedHashSet;
+import java.util.Set;
+/*
+ * 🖍️...
+ * · Specification: One WHERE predicate as an object. They are combined with and(), so any combination of the filter fields
+ *   becomes one query, instead of one derived query per combination (findAllByTaskStatusAndAssignedEmployee, ...).
+ * · Only the columns of the tasks indexes are filterable: project_id / assigned_employee_id (equality, leading column),
+ *   task_status (IN), assigned_date (range). projectCode is resolved by the unique index of projects.project_code.
+ * · equalityColumns() tells IndexGuard which leading columns the filter has.
+ */
+public class TaskSpecifications {
+    public static final String PROJECT = "project";
+    public static final String ASSIGNED_EMPLOYEE = "assignedEmployee";
+
+    private TaskSpecifications() {
+    }
+
+
+    public static Specification<Task> of(TaskFilterDTO filter) {
+        Specification<Task> specification = Specification.where(null);
+        if (filter.getProjectId() != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("project").get("id"), filter.getProjectId()));
+        }
+        if (filter.getProjectCode() != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("project").get("projectCode"), filter.getProjectCode()));
+        }
+        if (filter.getAssignedEmployeeId() != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("assignedEmployee").get("id"), filter.getAssignedEmployeeId()));
+        }
+        if (filter.getTaskStatus() != null && !filter.getTaskStatus().isEmpty()) {
+            specification = specification.and((root, query, cb) -> root.get("taskStatus").in(filter.getTaskStatus()));
+        }
+        if (filter.getAssignedFrom() != null) {
+            specification = specification.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("assignedDate"), filter.getAssignedFrom()));
+        }
+        if (filter.getAssignedTo() != null) {
+            specification = specification.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("assignedDate"), filter.getAssignedTo()));
+        }
+        return specification;
+    }
+
+    public static Set<String> equalityColumns(TaskFilterDTO filter) {
+        Set<String> columns = new LinkedHashSet<>();
+        if (filter.getProjectId() != null || filter.getProjectCode() != null) {
+            columns.add(PROJECT);
+        }
+        if (filter.getAssignedEmployeeId() != null) {
+            columns.add(ASSIGNED_EMPLOYEE);
+        }
+        return columns;
+    }
+
+}
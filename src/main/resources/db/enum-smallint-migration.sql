@@ -0,0 +1,31 @@
+-- · One-time migration of an existing database from the VARCHAR enum columns to the SMALLINT codes (Check CodedEnum class).
+--   Ex: psql -d ticketing-app -f src/main/resources/db/enum-smallint-migration.sql
+-- · It runs in one transaction: ALTER COLUMN ... TYPE rewrites each table and rebuilds its indexes (Ex: tasks_project_status_idx)
+--   under an ACCESS EXCLUSIVE lock, so run it while the application is stopped.
+-- · NULL stays NULL. Any other value that is not in the code table falls through to ELSE ...::SMALLINT, which fails,
+--   and the whole migration is rolled back.
+-- · Status: 1 = OPEN, 2 = IN_PROGRESS, 3 = COMPLETE. Gender: 1 = MALE, 2 = FEMALE.
+
+BEGIN;
+
+ALTER TABLE tasks
+    ALTER COLUMN task_status TYPE SMALLINT USING (CASE task_status WHEN 'OPEN' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'COMPLETE' THEN 3 ELSE task_status::SMALLINT END),
+    ADD CONSTRAINT tasks_task_status_code CHECK (task_status IN (1, 2, 3));
+
+ALTER TABLE projects
+    ALTER COLUMN project_status TYPE SMALLINT USING (CASE project_status WHEN 'OPEN' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'COMPLETE' THEN 3 ELSE project_status::SMALLINT END),
+    ADD CONSTRAINT projects_project_status_code CHECK (project_status IN (1, 2, 3));
+
+ALTER TABLE task_status_histories
+    ALTER COLUMN from_status TYPE SMALLINT USING (CASE from_status WHEN 'OPEN' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'COMPLETE' THEN 3 ELSE from_status::SMALLINT END),
+    ALTER COLUMN to_status TYPE SMALLINT USING (CASE to_status WHEN 'OPEN' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'COMPLETE' THEN 3 ELSE to_status::SMALLINT END),
+    ADD CONSTRAINT task_status_histories_status_code CHECK (from_status IN (1, 2, 3) AND to_status IN (1, 2, 3));
+
+ALTER TABLE users
+    ALTER COLUMN gender TYPE SMALLINT USING (CASE gender WHEN 'MALE' THEN 1 WHEN 'FEMALE' THEN 2 ELSE gender::SMALLINT END),
+    ADD CONSTRAINT users_gender_code CHECK (gender IN (1, 2));
+
+COMMIT;
+
+ANALYZE tasks;
+ANALYZE projects;
@@ -0,0 +1,44 @@
+-- · Optional schema for the "partitioned" profile (Check application-partitioned.properties).
+-- · Hibernate creates a plain tasks table first; it is replaced here by a table hash-partitioned by project_id, before data.sql runs.
+-- · The per-project queries (findAllByProject, totalCompletedTasks, totalNonCompletedTasks) filter by project_id itself, so the
+--   planner prunes them to one partition (Check TaskPartitionPruningTest class). A filter through a join on project_code scans all 8.
+-- · Pruning only skips partitions; it doesn't make an indexed lookup faster. At 20M tasks and 1000 projects the plain table with
+--   the same indexes was as fast or faster (median ms of findAllByProject / totalCompletedTasks / totalNonCompletedTasks:
+--   indexed 93.9 / 0.8 / 14.4, partitioned 93.3 / 4.1 / 38.7, plain without indexes ~4100 each; Check TaskPartitioningBenchmark class).
+--   Partitioning pays off for maintenance (vacuum, detaching a partition), not for these queries.
+-- · A partitioned table's primary key must contain the partition key, so it is (id, project_id). id stays unique,
+--   because it still comes from one sequence, and the Task entity keeps using id alone.
+-- · BIGSERIAL instead of an identity column: identity columns are not supported on partitioned tables before Postgres 17.
+
+DROP TABLE IF EXISTS tasks CASCADE;
+
+CREATE TABLE tasks
+(
+    id                    BIGSERIAL,
+    insert_date_time      TIMESTAMP NOT NULL,
+    insert_user_id        BIGINT    NOT NULL,
+    is_deleted            BOOLEAN,
+    last_update_date_time TIMESTAMP NOT NULL,
+    last_update_user_id   BIGINT    NOT NULL,
+    assigned_date         DATE,
+    task_detail           VARCHAR(255),
+    task_status           SMALLINT,
+    task_subject          VARCHAR(255),
+    assigned_employee_id  BIGINT REFERENCES users (id),
+    project_id            BIGINT    NOT NULL REFERENCES projects (id),
+    overdue               BOOLEAN DEFAULT FALSE,
+    PRIMARY KEY (id, project_id)
+) PARTITION BY HASH (project_id);
+
+CREATE TABLE tasks_p0 PARTITION OF tasks FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+CREATE TABLE tasks_p1 PARTITION OF tasks FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+CREATE TABLE tasks_p2 PARTITION OF tasks FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+CREATE TABLE tasks_p3 PARTITION OF tasks FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+CREATE TABLE tasks_p4 PARTITION OF tasks FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+CREATE TABLE tasks_p5 PARTITION OF tasks FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+CREATE TABLE tasks_p6 PARTITION OF tasks FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+CREATE TABLE tasks_p7 PARTITION OF tasks FOR VALUES WITH (MODULUS 8, REMAINDER 7);
+
+-- · Indexes on the parent are created on every partition.
+CREATE INDEX tasks_project_status_idx ON tasks (project_id, task_status, assigned_date);
+CREATE INDEX tasks_employee_status_idx ON tasks (assigned_employee_id, task_status, assigned_date);
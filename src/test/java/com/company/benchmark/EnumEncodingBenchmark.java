@@ -0,0 +1,103 @@
+package com.company.benchmark;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * 🖍️...
+ * · Loads the same generated tasks into two tables of an embedded Postgres server, and compares the table and index sizes and
+ *   the latency of the TaskRepository status queries:
+ *   varchar  : task_status VARCHAR(255), as @Enumerated(EnumType.STRING) stored it.
+ *   smallint : task_status SMALLINT, the StatusConverter codes (Check CodedEnum class).
+ *   Both have the tasks_project_status_idx index (project_id, task_status, assigned_date).
+ * · Postgres refuses to run as root. The class name doesn't end with "Test", so it is not part of "mvn test". Run it with:
+ *   mvn test -Dtest=EnumEncodingBenchmark -Dbenchmark.tasks=20000000
+ */
+class EnumEncodingBenchmark {
+
+    private static final int TASKS = Integer.getInteger("benchmark.tasks", 20_000_000);
+    private static final int PROJECTS = 1_000;
+    private static final int QUERIES = 200;
+
+    @Test
+    void sizeAndLatency() throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             Connection connection = postgres.getPostgresDatabase().getConnection()) {
+            createTables(connection);
+
+            System.out.printf("%n%d tasks, %d projects, median of %d queries (ms)%n", TASKS, PROJECTS, QUERIES);
+            System.out.printf("%-9s %12s %12s %18s %22s %20s%n", "table", "table MB", "index MB", "nonCompleted(p)", "completedByProject", "full scan count");
+            long[] indexBytes = new long[2];
+            String[][] encodings = {{"tasks_varchar", "'COMPLETE'"}, {"tasks_smallint", "3"}};
+            for (int i = 0; i < encodings.length; i++) {
+                String table = encodings[i][0];
+                String complete = encodings[i][1];
+                indexBytes[i] = size(connection, "pg_relation_size('" + table + "_idx')");
+                System.out.printf("%-9s %12.1f %12.1f %18.3f %22.3f %20.1f%n", table.substring(6),
+                        size(connection, "pg_relation_size('" + table + "')") / 1048576.0, indexBytes[i] / 1048576.0,
+                        median(connection, "SELECT COUNT(*) FROM " + table + " t WHERE t.project_id = ? AND t.task_status <> " + complete, QUERIES),
+                        median(connection, "SELECT COUNT(*) FROM " + table + " t WHERE t.project_id = ? AND t.task_status = " + complete, QUERIES),
+                        median(connection, "SELECT COUNT(*) FROM " + table + " t WHERE t.task_status <> " + complete + " AND t.project_id > ?", 5));
+            }
+            assertEquals(count(connection, "tasks_varchar", "'COMPLETE'"), count(connection, "tasks_smallint", "3"), "the same data in both tables");
+            assertTrue(indexBytes[1] < indexBytes[0], "the smallint index is smaller");
+        }
+    }
+
+    private void createTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE tasks_varchar (id BIGSERIAL PRIMARY KEY, assigned_date DATE, task_status VARCHAR(255), project_id BIGINT NOT NULL)");
+            statement.execute("INSERT INTO tasks_varchar (assigned_date, task_status, project_id) " +
+                    "SELECT current_date - (g % 365), (ARRAY['OPEN', 'IN_PROGRESS', 'COMPLETE', 'COMPLETE'])[1 + g % 4], 1 + (g / 7) % " + PROJECTS + " " +
+                    "FROM generate_series(1, " + TASKS + ") g");
+            statement.execute("CREATE TABLE tasks_smallint (id BIGSERIAL PRIMARY KEY, assigned_date DATE, task_status SMALLINT, project_id BIGINT NOT NULL)");
+            statement.execute("INSERT INTO tasks_smallint (id, assigned_date, task_status, project_id) " + // The same conversion as db/enum-smallint-migration.sql
+                    "SELECT id, assigned_date, CASE task_status WHEN 'OPEN' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'COMPLETE' THEN 3 END, project_id FROM tasks_varchar");
+            statement.execute("CREATE INDEX tasks_varchar_idx ON tasks_varchar (project_id, task_status, assigned_date)");
+            statement.execute("CREATE INDEX tasks_smallint_idx ON tasks_smallint (project_id, task_status, assigned_date)");
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+
+    private long size(Connection connection, String expression) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT " + expression)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private long count(Connection connection, String table, String complete) throws SQLException {
+        return size(connection, "COUNT(*) FROM " + table + " WHERE task_status = " + complete);
+    }
+
+    private double median(Connection connection, String sql, int queries) throws SQLException {
+        Random random = new Random(42);
+        List<Double> millis = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < queries; i++) {
+                statement.setLong(1, 1 + random.nextInt(PROJECTS));
+                long start = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getLong(1);
+                    }
+                }
+                millis.add((System.nanoTime() - start) / 1_000_000.0);
+            }
+        }
+        millis.sort(Double::compare);
+        return millis.get(millis.size() / 2);
+    }
+
+}
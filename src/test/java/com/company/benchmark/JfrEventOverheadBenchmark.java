@@ -0,0 +1,159 @@
+package com.company.benchmark;
+
+import com.company.dto.TaskAssignmentDTO;
+import com.company.entity.Task;
+import com.company.jfr.MappingEvent;
+import com.company.jfr.RepositoryQueryEvent;
+import com.company.jfr.ServiceCallEvent;
+import com.company.mapper.TaskMapper;
+import com.company.repository.TaskRepository;
+import com.company.service.TaskService;
+import com.company.service.TaskThroughputService;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * 🖍️...
+ * · Overhead of JfrEventAspect on the mapping of listAllTasks(): taskRepository.findAll() of 20,000 tasks, each one converted by
+ *   TaskMapper.convertToDTO(), so one MappingEvent per task.
+ *   before           : The TaskMapper itself, without the Spring proxy, so without the aspect.
+ *   no recording     : Through the proxy, no recording running: isEnabled() is false (the production default, jfr.recording.enabled=false).
+ *   recording        : A recording with the thresholds of JfrRecording (mapping 1 ms): Nearly no conversion is written.
+ *   recording, 0 ms  : Every conversion is written. The worst case, Ex: jfr.thresholds.mapping=0ms.
+ * · The entities are loaded once, and every pass maps the same ones inside one read-only transaction, so only the mapping is measured.
+ * · The modes alternate in rounds, so they all see the same JIT and GC state.
+ * · Measured (H2, 20,016 tasks, 100 passes per mode), per pass: before 915.80 ms / 839.84 MB, no recording 923.47 ms / 845.95 MB,
+ *   recording 852.51 ms / 845.95 MB, recording 0 ms 824.72 ms / 849.00 MB. The time differences are within the run-to-run noise
+ *   (ModelMapper takes ~46 us per task); the proxy and the join point allocate ~300 bytes per call, an event ~150 more.
+ * · The class name doesn't end with "Test", so it is not part of "mvn test". Run it with:
+ *   mvn test -Dtest=JfrEventOverheadBenchmark
+ */
+@SpringBootTest(properties = "task-assignment.max-batch-size=5000")
+@ActiveProfiles("test")
+class JfrEventOverheadBenchmark {
+
+    private static final int TASKS = 20_000;
+    private static final int ROUNDS = 5;
+    private static final int WARMUP = 10;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskMapper taskMapper;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    @Test
+    void mappingOverheadOfListAllTasks() {
+        for (int created = 0; created < TASKS; created += 5_000) {
+            taskService.assignAll("SP00", assignments(created, 5_000));
+        }
+        TaskMapper unproxied = AopTestUtils.getUltimateTargetObject(taskMapper);
+        assertTrue(AopUtils.isAopProxy(taskMapper) && !AopUtils.isAopProxy(unproxied)); // Else "before" would measure the aspect too.
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            List<Task> tasks = taskRepository.findAll();
+            List<Mode> modes = List.of(
+                    new Mode("before", unproxied::convertToDTO, null),
+                    new Mode("no recording", taskMapper::convertToDTO, null),
+                    new Mode("recording", taskMapper::convertToDTO, Duration.ofMillis(1)),
+                    new Mode("recording, 0 ms", taskMapper::convertToDTO, Duration.ZERO));
+            for (Mode mode : modes) { // Also loads the lazy projects and employees once, before anything is measured.
+                mode.run(tasks, WARMUP, false);
+            }
+            for (int round = 0; round < ROUNDS; round++) {
+                for (Mode mode : modes) {
+                    mode.run(tasks, ITERATIONS, true);
+                }
+            }
+
+            double beforeMillis = modes.get(0).millis();
+            System.out.printf("%n%,d tasks mapped per pass, %d passes per mode%n", tasks.size(), ROUNDS * ITERATIONS);
+            System.out.printf("%-18s %16s %18s %16s %22s%n", "mode", "per pass (ms)", "per task (ns)", "overhead (%)", "allocated / pass (MB)");
+            for (Mode mode : modes) {
+                System.out.printf("%-18s %16.2f %18.0f %16.1f %22.2f%n", mode.name, mode.millis(), mode.millis() * 1_000_000 / tasks.size(),
+                        (mode.millis() / beforeMillis - 1) * 100, mode.allocatedBytes / 1024.0 / 1024.0 / (ROUNDS * ITERATIONS));
+            }
+        });
+    }
+
+    private static List<TaskAssignmentDTO> assignments(int first, int count) {
+        List<TaskAssignmentDTO> assignments = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            TaskAssignmentDTO assignment = new TaskAssignmentDTO();
+            assignment.setAssignedEmployeeId(4L + i % 4);
+            assignment.setTaskSubject("Benchmark task " + i);
+            assignment.setTaskDetail("Benchmark detail " + i);
+            assignments.add(assignment);
+        }
+        return assignments;
+    }
+
+    private static class Mode {
+        private final String name;
+        private final Function<Task, ?> convert;
+        private final Duration threshold; // null: no recording.
+        private double totalMillis;
+        private long allocatedBytes;
+        private int passes;
+
+        Mode(String name, Function<Task, ?> convert, Duration threshold) {
+            this.name = name;
+            this.convert = convert;
+            this.threshold = threshold;
+        }
+
+        void run(List<Task> tasks, int iterations, boolean measured) {
+            try (Recording recording = new Recording()) {
+                if (threshold != null) {
+                    recording.enable(ServiceCallEvent.class).withThreshold(threshold).withoutStackTrace();
+                    recording.enable(RepositoryQueryEvent.class).withThreshold(threshold).withoutStackTrace();
+                    recording.enable(MappingEvent.class).withThreshold(threshold).withoutStackTrace();
+                    recording.start();
+                }
+                com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                long threadId = Thread.currentThread().getId();
+                for (int i = 0; i < iterations; i++) {
+                    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+                    long start = System.nanoTime();
+                    List<?> dtos = tasks.stream().map(convert).collect(Collectors.toList());
+                    if (measured) {
+                        totalMillis += (System.nanoTime() - start) / 1_000_000.0;
+                        allocatedBytes += threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+                        passes++;
+                    }
+                    if (dtos.size() != tasks.size()) {
+                        throw new IllegalStateException("Not every task was mapped.");
+                    }
+                }
+            }
+        }
+
+        double millis() {
+            return totalMillis / passes;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.company.benchmark;
+
+import com.company.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 🖍️...
+ * · Part 1: Hashes per second of one thread for bcrypt cost 8, 10 and 12 (every +1 doubles the time).
+ * · Part 2: 16 request threads serve a mix of 1 sign-up (bcrypt cost 10) per 4 light requests (a few SHA-256 digests).
+ *   inline   : The request thread hashes, like UserServiceImpl.save() without PasswordHasher.
+ *   dedicated: The request thread waits for PasswordHasher, whose pool has half of the CPUs.
+ *   The latency of the light requests shows how much the hashing slows down everything else.
+ * · Not part of "mvn test". Run it with:
+ *   mvn test -Dtest=PasswordHashingBenchmark
+ */
+class PasswordHashingBenchmark {
+
+    private static final int REQUEST_THREADS = 16;
+    private static final int REQUESTS = 400;
+    private static final int SIGN_UP_EVERY = 5;
+
+    @Test
+    void hashesPerSecondAndRequestLatency() throws Exception {
+        System.out.printf("%n%-6s %15s%n", "cost", "hashes / sec");
+        for (int cost : new int[]{8, 10, 12}) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            encoder.encode("warmup");
+            int hashes = Math.max(2, 64 >> (cost - 8));
+            long start = System.nanoTime();
+            for (int i = 0; i < hashes; i++) {
+                encoder.encode("Abc1");
+            }
+            System.out.printf("%-6d %15.1f%n", cost, hashes / seconds(System.nanoTime() - start));
+        }
+
+        BCryptPasswordEncoder inline = new BCryptPasswordEncoder(10);
+        PasswordHasher dedicated = new PasswordHasher(new SimpleMeterRegistry(), 10, 0, 1_000, Duration.ofMinutes(1));
+        try {
+            run("inline", () -> inline.encode("Abc1"));      // warm-up
+            run("dedicated", () -> dedicated.hash("Abc1"));
+            System.out.printf("%n%-10s %15s %15s %15s %15s%n", "mode", "hashes / sec", "light p50 (ms)", "light p99 (ms)", "total (s)");
+            for (Result result : List.of(run("inline", () -> inline.encode("Abc1")), run("dedicated", () -> dedicated.hash("Abc1")))) {
+                System.out.printf("%-10s %15.1f %15.2f %15.2f %15.2f%n", result.name, result.hashesPerSecond, result.p50Millis, result.p99Millis, result.totalSeconds);
+            }
+        } finally {
+            dedicated.shutdown();
+        }
+    }
+
+    private Result run(String name, Runnable signUp) throws Exception {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        List<Future<Long>> light = new ArrayList<>();
+        List<Future<Long>> signUps = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            if (i % SIGN_UP_EVERY == 0) {
+                signUps.add(requestThreads.submit(() -> timed(signUp)));
+            } else {
+                light.add(requestThreads.submit(() -> timed(PasswordHashingBenchmark::lightRequest)));
+            }
+        }
+        List<Long> latencies = new ArrayList<>();
+        for (Future<Long> future : light) {
+            latencies.add(future.get());
+        }
+        for (Future<Long> future : signUps) {
+            future.get();
+        }
+        long total = System.nanoTime() - start;
+        requestThreads.shutdown();
+        requestThreads.awaitTermination(1, TimeUnit.MINUTES);
+        Collections.sort(latencies);
+        return new Result(name, signUps.size() / seconds(total), percentile(latencies, 0.50), percentile(latencies, 0.99), seconds(total));
+    }
+
+    private static long timed(Runnable request) {
+        long start = System.nanoTime();
+        request.run();
+        return System.nanoTime() - start;
+    }
+
+    private static void lightRequest() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] data = new byte[4_096];
+            for (int i = 0; i < 20; i++) {
+                data = digest.digest(data.length == 32 ? new byte[4_096] : data);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double percentile(List<Long> sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private static class Result {
+        private final String name;
+        private final double hashesPerSecond;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final double totalSeconds;
+
+        Result(String name, double hashesPerSecond, double p50Millis, double p99Millis, double totalSeconds) {
+            this.name = name;
+            this.hashesPerSecond = hashesPerSecond;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.totalSeconds = totalSeconds;
+        }
+    }
+
+}
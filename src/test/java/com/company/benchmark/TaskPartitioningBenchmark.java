@@ -0,0 +1,139 @@
+package com.company.benchmark;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * 🖍️...
+ * · Loads the same generated tasks into three tables of an embedded Postgres server, and compares the latency of the
+ *   TaskRepository queries on them:
+ *   plain       : The table as Hibernate creates it (primary key only).
+ *   indexed     : plain + the indexes of db/tasks-partitioned.sql.
+ *   partitioned : db/tasks-partitioned.sql itself.
+ * · The queries are the ones TaskRepository runs: Every one filters by project_id. It also checks with EXPLAIN that each of them
+ *   only scans one partition on the partitioned table (partition pruning, Check TaskPartitionPruningTest class).
+ * · The class name doesn't end with "Test", so it is not part of "mvn test". Run it with:
+ *   mvn test -Dtest=TaskPartitioningBenchmark -Dbenchmark.tasks=20000000
+ */
+class TaskPartitioningBenchmark {
+
+    private static final int TASKS = Integer.getInteger("benchmark.tasks", 20_000_000);
+    private static final int PROJECTS = 1_000;
+    private static final int EMPLOYEES = 1_000;
+    private static final int QUERIES = 200;
+
+    private static final String TASK_COLUMNS = "id BIGSERIAL, insert_date_time TIMESTAMP NOT NULL, insert_user_id BIGINT NOT NULL, is_deleted BOOLEAN, " +
+            "last_update_date_time TIMESTAMP NOT NULL, last_update_user_id BIGINT NOT NULL, assigned_date DATE, task_detail VARCHAR(255), " +
+            "task_status SMALLINT, task_subject VARCHAR(255), assigned_employee_id BIGINT, project_id BIGINT NOT NULL, overdue BOOLEAN DEFAULT FALSE";
+
+    @Test
+    void partitionPruningAndLatency() throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             Connection connection = postgres.getPostgresDatabase().getConnection()) {
+            createSchema(connection);
+
+            for (String query : List.of(findAllByProject("tasks"), totalCompletedTasks("tasks"), totalNonCompletedTasks("tasks"))) {
+                String plan = explain(connection, query);
+                System.out.println(plan);
+                Matcher partitions = Pattern.compile("on (tasks_p\\d+)(\\s|$)", Pattern.MULTILINE).matcher(plan);
+                Set<String> scanned = new HashSet<>();
+                while (partitions.find()) {
+                    scanned.add(partitions.group(1));
+                }
+                assertEquals(1, scanned.size(), "only one partition is scanned");
+            }
+
+            System.out.printf("%n%d tasks, %d projects, median of %d queries (ms)%n", TASKS, PROJECTS, QUERIES);
+            System.out.printf("%-12s %18s %22s %22s%n", "table", "findAllByProject", "totalCompletedTasks", "totalNonCompleted");
+            for (String table : List.of("tasks_plain", "tasks_indexed", "tasks")) {
+                System.out.printf("%-12s %18.2f %22.2f %22.2f%n", table.equals("tasks") ? "partitioned" : table.substring(6),
+                        median(connection, findAllByProject(table)),
+                        median(connection, totalCompletedTasks(table)),
+                        median(connection, totalNonCompletedTasks(table)));
+            }
+        }
+    }
+
+    private void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGSERIAL PRIMARY KEY)");
+            statement.execute("CREATE TABLE projects (id BIGSERIAL PRIMARY KEY, project_code VARCHAR(255) UNIQUE, is_deleted BOOLEAN)");
+            statement.execute("INSERT INTO users (id) SELECT g FROM generate_series(1, " + EMPLOYEES + ") g");
+            statement.execute("INSERT INTO projects (id, project_code, is_deleted) SELECT g, 'P' || g, false FROM generate_series(1, " + PROJECTS + ") g");
+            statement.execute("CREATE TABLE tasks_plain (" + TASK_COLUMNS + ", PRIMARY KEY (id))");
+            statement.execute("INSERT INTO tasks_plain (insert_date_time, insert_user_id, is_deleted, last_update_date_time, last_update_user_id, " +
+                    "assigned_date, task_detail, task_status, task_subject, assigned_employee_id, project_id) " +
+                    "SELECT now(), 1, false, now(), 1, current_date - (g % 365), 'Detail ' || g, " +
+                    "(ARRAY[1, 2, 3, 3])[1 + g % 4], 'Subject ' || g, 1 + g % " + EMPLOYEES + ", 1 + (g / 7) % " + PROJECTS + " " +
+                    "FROM generate_series(1, " + TASKS + ") g");
+            statement.execute("CREATE TABLE tasks_indexed AS SELECT * FROM tasks_plain");
+            statement.execute("ALTER TABLE tasks_indexed ADD PRIMARY KEY (id)");
+            statement.execute("CREATE INDEX ON tasks_indexed (project_id, task_status)");
+            statement.execute("CREATE INDEX ON tasks_indexed (assigned_employee_id, task_status)");
+        }
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/tasks-partitioned.sql"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO tasks SELECT * FROM tasks_plain");
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+
+    private String findAllByProject(String table) { // The TaskRepository queries with the table name replaced.
+        return "SELECT * FROM " + table + " t WHERE t.project_id = ? AND (t.is_deleted = false)";
+    }
+
+    private String totalCompletedTasks(String table) {
+        return "SELECT COUNT(*) FROM " + table + " t WHERE t.project_id = ? AND t.task_status = 3";
+    }
+
+    private String totalNonCompletedTasks(String table) {
+        return "SELECT COUNT(t.id) FROM " + table + " t WHERE t.project_id = ? AND (t.is_deleted = false) AND t.task_status <> 3";
+    }
+
+    private String explain(Connection connection, String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql.replace("?", "42"))) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private double median(Connection connection, String sql) throws SQLException {
+        Random random = new Random(42);
+        List<Double> millis = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < QUERIES; i++) {
+                statement.setLong(1, 1 + random.nextInt(PROJECTS));
+                long start = System.nanoTime();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getLong(1);
+                    }
+                }
+                millis.add((System.nanoTime() - start) / 1_000_000.0);
+            }
+        }
+        millis.sort(Double::compare);
+        return millis.get(millis.size() / 2);
+    }
+
+}
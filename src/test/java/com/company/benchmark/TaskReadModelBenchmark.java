@@ -0,0 +1,57 @@
+package com.company.benchmark;
+
+import com.company.dto.TaskDeltaDTO;
+import com.company.enums.Status;
+import com.company.enums.TaskChangeType;
+import com.company.readmodel.TaskReadModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/*
+ * 🖍️...
+ * · Heap size of the TaskReadModel and latency of its aggregates for 1,000,000 tasks in 2,000 projects and 10,000 employees.
+ * · The model is filled with deltas, so no database is needed. Not part of "mvn test". Run it with:
+ *   mvn test -Dtest=TaskReadModelBenchmark
+ */
+class TaskReadModelBenchmark {
+
+    private static final int TASKS = 1_000_000;
+    private static final int PROJECTS = 2_000;
+    private static final int EMPLOYEES = 10_000;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    void heapAndAggregateLatency() {
+        TaskReadModel model = new TaskReadModel(null, null, new SimpleMeterRegistry(), new int[]{1, 7, 30, 90});
+        LocalDate today = LocalDate.now();
+        Status[] statuses = Status.values();
+        long start = System.nanoTime();
+        for (int i = 1; i <= TASKS; i++) {
+            model.onTaskChanged(new TaskDeltaDTO(TaskChangeType.CREATED, (long) i, (long) (i % PROJECTS), null, (long) (i % EMPLOYEES), null,
+                    null, statuses[i % statuses.length], today.minusDays(i % 365)));
+        }
+        double loadMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.printf("%n%,d tasks loaded in %.0f ms, %,d bytes of columns (%.1f bytes / task)%n",
+                model.size(), loadMillis, model.heapBytes(), model.heapBytes() / (double) model.size());
+        System.out.printf("%-32s %15s%n", "aggregate", "avg (us)");
+        measure("countByProjectAndStatus", model::countByProjectAndStatus);
+        measure("countByEmployeeAndStatus", model::countByEmployeeAndStatus);
+        measure("openTaskAgeDistribution(all)", () -> model.openTaskAgeDistribution(null, today));
+        measure("openTaskAgeDistribution(1)", () -> model.openTaskAgeDistribution(1L, today));
+    }
+
+    private static void measure(String name, Supplier<?> aggregate) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            aggregate.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            aggregate.get();
+        }
+        System.out.printf("%-32s %15.1f%n", name, (System.nanoTime() - start) / 1_000.0 / ITERATIONS);
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.company.benchmark;
+
+import com.company.dto.TaskAssignmentDTO;
+import com.company.dto.TaskDTO;
+import com.company.serializer.DtoJsonWriter;
+import com.company.serializer.FieldSelection;
+import com.company.service.TaskService;
+import com.company.service.TaskThroughputService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 🖍️...
+ * · Compares connection hold time and heap per request of listAllTasks() + JSON rendering:
+ *   before: open-in-view, reproduced with the same OpenEntityManagerInViewInterceptor Spring registers for it. The EntityManager
+ *           is opened before the service call and closed after the rendering, and it keeps its connection until then
+ *           (Hibernate's DELAYED_ACQUISITION_AND_HOLD, which Spring sets), with every loaded entity still in its persistence context.
+ *   after : The service's own read-only transaction, and the rendering after the connection is released.
+ * · "entities held while rendering" is the persistence context size during the rendering: The heap that open-in-view keeps
+ *   alive on top of the DTOs. "allocated / req" is everything the request thread allocates.
+ * · The class name doesn't end with "Test", so it is not part of "mvn test". Run it with:
+ *   mvn test -Dtest=TransactionBoundaryBenchmark
+ */
+@SpringBootTest(properties = "task-assignment.max-batch-size=5000")
+@ActiveProfiles("test")
+class TransactionBoundaryBenchmark {
+
+    private static final int TASKS = 5_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private DtoJsonWriter dtoJsonWriter;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    private int heldEntities;
+    private double lastRenderingMillis;
+
+    @Test
+    void connectionHoldTimeAndHeapPerRequest() {
+        List<TaskAssignmentDTO> assignments = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            TaskAssignmentDTO assignment = new TaskAssignmentDTO();
+            assignment.setAssignedEmployeeId(4L + i % 4);
+            assignment.setTaskSubject("Benchmark task " + i);
+            assignment.setTaskDetail("Benchmark detail " + i);
+            assignments.add(assignment);
+        }
+        taskService.assignAll("SP00", assignments);
+
+        OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+        openInView.setEntityManagerFactory(entityManagerFactory);
+        Runnable before = () -> {
+            WebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest());
+            openInView.preHandle(webRequest);
+            try {
+                render(taskService.listAllTasks());
+            } finally {
+                openInView.afterCompletion(webRequest, null);
+            }
+        };
+        Runnable after = () -> render(taskService.listAllTasks());
+
+        for (int i = 0; i < WARMUP; i++) {
+            before.run();
+            after.run();
+        }
+        Result beforeResult = new Result("before");
+        Result afterResult = new Result("after");
+        for (int i = 0; i < ITERATIONS; i++) { // Alternating, so both modes see the same JIT and GC state.
+            measure(beforeResult, before);
+            measure(afterResult, after);
+        }
+
+        System.out.printf("%n%-8s %22s %16s %30s %22s %20s%n", "mode", "connection hold (ms)", "rendering (ms)", "entities held while rendering",
+                "allocated / req (MB)", "latency / req (ms)");
+        for (Result result : List.of(beforeResult, afterResult)) {
+            System.out.printf("%-8s %22.2f %16.2f %30d %22.2f %20.2f%n", result.name, result.connectionHoldMillis / ITERATIONS, result.renderingMillis / ITERATIONS,
+                    result.heldEntities, result.allocatedBytes / 1024.0 / 1024.0 / ITERATIONS, result.latencyMillis / ITERATIONS);
+        }
+    }
+
+    private void measure(Result result, Runnable request) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Timer usage = meterRegistry.get("hikaricp.connections.usage").timer();
+        double usageBefore = usage.totalTime(TimeUnit.MILLISECONDS);
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        request.run();
+        result.latencyMillis += (System.nanoTime() - start) / 1_000_000.0;
+        result.allocatedBytes += threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        result.connectionHoldMillis += usage.totalTime(TimeUnit.MILLISECONDS) - usageBefore;
+        result.renderingMillis += lastRenderingMillis;
+        result.heldEntities = heldEntities;
+    }
+
+    private void render(List<TaskDTO> tasks) {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+        heldEntities = holder == null ? 0 : holder.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+        long start = System.nanoTime();
+        try {
+            dtoJsonWriter.writeTasks(OutputStream.nullOutputStream(), tasks, FieldSelection.all());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        lastRenderingMillis = (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private static class Result { // Sums over the measured iterations.
+        private final String name;
+        private double connectionHoldMillis;
+        private double renderingMillis;
+        private int heldEntities;
+        private long allocatedBytes;
+        private double latencyMillis;
+
+        Result(String name) {
+            this.name = name;
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.company.bulkhead;
+
+import com.company.exception.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · The permits are held by other threads that wait on a latch, so the tests don't depend on timing, except the wait timeout itself.
+ */
+class OperationBulkheadTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch releaseHolders = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        releaseHolders.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rejectsAtOnceWhenTheQueueIsFull() throws Exception {
+        OperationBulkhead bulkhead = bulkhead(1, 1, Duration.ofSeconds(30));
+        holdPermit(bulkhead);
+        Future<?> queued = executor.submit(() -> runGuarded(bulkhead));
+        awaitQueueDepth(1);
+
+        long start = System.nanoTime();
+        BulkheadFullException exception = assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+        assertTrue(exception.getMessage().contains("queue is full"));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5)); // Not after max-wait.
+        assertEquals(1, rejections("queue_full"));
+        assertEquals(1, gauge("bulkhead.active"));
+        releaseHolders.countDown();
+        queued.get(5, TimeUnit.SECONDS); // The queued call still gets the permit.
+        assertEquals(0, gauge("bulkhead.queue.depth"));
+    }
+
+    @Test
+    void rejectsAfterTheMaxWait() throws Exception {
+        OperationBulkhead bulkhead = bulkhead(1, 5, Duration.ofMillis(50));
+        holdPermit(bulkhead);
+
+        BulkheadFullException exception = assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+        assertTrue(exception.getMessage().contains("wait time exceeded"));
+        assertEquals(1, rejections("timeout"));
+        assertEquals(0, rejections("queue_full"));
+        assertEquals(0, gauge("bulkhead.queue.depth"));
+        assertEquals(1, meterRegistry.get("bulkhead.wait").timer().count());
+        assertTrue(meterRegistry.get("bulkhead.wait").timer().totalTime(TimeUnit.MILLISECONDS) >= 50);
+    }
+
+    @Test
+    void sameThreadEntersAgainWithoutASecondPermit() throws Exception {
+        OperationBulkhead bulkhead = bulkhead(1, 0, Duration.ofMillis(50));
+        bulkhead.acquire();
+        bulkhead.acquire(); // Would be rejected at once (max-queue=0) if it needed a second permit.
+        assertEquals(1, gauge("bulkhead.active"));
+
+        bulkhead.release();
+        assertEquals(1, gauge("bulkhead.active")); // The outer call still holds the permit.
+        assertInstanceOf(BulkheadFullException.class, onOtherThread(bulkhead));
+
+        bulkhead.release();
+        assertEquals(0, gauge("bulkhead.active"));
+        assertNull(onOtherThread(bulkhead));
+    }
+
+    private OperationBulkhead bulkhead(int maxConcurrent, int maxQueue, Duration maxWait) {
+        BulkheadProperties.Limits limits = new BulkheadProperties.Limits();
+        limits.setMaxConcurrent(maxConcurrent);
+        limits.setMaxQueue(maxQueue);
+        limits.setMaxWait(maxWait);
+        return new OperationBulkhead("test", limits, meterRegistry);
+    }
+
+    private void holdPermit(OperationBulkhead bulkhead) throws InterruptedException { // Until releaseHolders opens.
+        CountDownLatch held = new CountDownLatch(1);
+        executor.submit(() -> {
+            bulkhead.acquire();
+            held.countDown();
+            await(releaseHolders);
+            bulkhead.release();
+        });
+        assertTrue(held.await(5, TimeUnit.SECONDS));
+    }
+
+    private Throwable onOtherThread(OperationBulkhead bulkhead) throws Exception { // The exception of acquire(), or null.
+        return executor.submit(() -> {
+            try {
+                runGuarded(bulkhead);
+                return null;
+            } catch (BulkheadFullException e) {
+                return e;
+            }
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    private static void runGuarded(OperationBulkhead bulkhead) {
+        bulkhead.acquire();
+        bulkhead.release();
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge("bulkhead.queue.depth") != depth) {
+            assertTrue(System.nanoTime() < deadline, "queue depth never reached " + depth);
+            Thread.sleep(5);
+        }
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("bulkhead", "test").gauge().value();
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("bulkhead.rejections").tag("bulkhead", "test").tag("reason", reason).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
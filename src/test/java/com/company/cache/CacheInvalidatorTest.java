@@ -0,0 +1,91 @@
+package com.company.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · Two instances of the application: two cache managers with their own CacheInvalidator, sharing one transport.
+ * · The transaction is simulated with TransactionSynchronizationManager, the same way the transaction managers drive it.
+ */
+class CacheInvalidatorTest {
+
+    private final LocalCacheInvalidationTransport transport = new LocalCacheInvalidationTransport();
+    private final ConcurrentMapCacheManager managerA = new ConcurrentMapCacheManager(CacheNames.USERS, CacheNames.PROJECTS);
+    private final ConcurrentMapCacheManager managerB = new ConcurrentMapCacheManager(CacheNames.USERS, CacheNames.PROJECTS);
+    private final CacheInvalidator invalidatorA = new CacheInvalidator(managerA, transport, new SimpleMeterRegistry());
+    private final CacheInvalidator invalidatorB = new CacheInvalidator(managerB, transport, new SimpleMeterRegistry()); // Subscribes B to the transport.
+    private final Cache usersA = managerA.getCache(CacheNames.USERS);
+    private final Cache usersB = managerB.getCache(CacheNames.USERS);
+
+    @BeforeEach
+    void fillCaches() {
+        for (Cache users : new Cache[]{usersA, usersB}) {
+            users.put("harold@manager.com", "user");
+            users.put("other@employee.com", "user");
+        }
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictsLocallyAtOnceAndEverywhereAfterTheCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        invalidatorA.evict(CacheNames.USERS, "harold@manager.com");
+
+        assertNull(usersA.get("harold@manager.com")); // The transaction reads its own change.
+        assertNotNull(usersB.get("harold@manager.com")); // Not committed yet.
+
+        usersA.put("harold@manager.com", "old value cached by a concurrent request");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertNull(usersA.get("harold@manager.com"));
+        assertNull(usersB.get("harold@manager.com"));
+        assertNotNull(usersB.get("other@employee.com"));
+    }
+
+    @Test
+    void aRollbackDoesNotReachTheOtherInstances() {
+        TransactionSynchronizationManager.initSynchronization();
+        invalidatorA.evict(CacheNames.USERS, "harold@manager.com");
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertNotNull(usersB.get("harold@manager.com"));
+    }
+
+    @Test
+    void evictAllAndEverything() {
+        invalidatorA.evictAll(CacheNames.USERS); // No transaction: delivered immediately.
+        assertNull(usersB.get("other@employee.com"));
+
+        managerB.getCache(CacheNames.PROJECTS).put("SP00", "project");
+        usersB.put("harold@manager.com", "user");
+        transport.publish(CacheInvalidation.everything());
+        assertNull(managerB.getCache(CacheNames.PROJECTS).get("SP00"));
+        assertNull(usersB.get("harold@manager.com"));
+    }
+
+    @Test
+    void payloadRoundTrip() {
+        CacheInvalidation key = new CacheInvalidation(CacheNames.USERS, "a:b@company.com");
+        CacheInvalidation wholeCache = new CacheInvalidation(CacheNames.PROJECTS, null);
+
+        assertEquals("users:a:b@company.com", key.toPayload());
+        assertEquals(key, CacheInvalidation.fromPayload(key.toPayload()));
+        assertEquals(wholeCache, CacheInvalidation.fromPayload(wholeCache.toPayload()));
+        assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.fromPayload("users"));
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.company.cache;
+
+import com.company.dto.ProjectDTO;
+import com.company.dto.UserDTO;
+import com.company.service.ProjectService;
+import com.company.service.RoleService;
+import com.company.service.TaskThroughputService;
+import com.company.service.UserService;
+import com.company.support.QueryBudget;
+import com.company.support.QueryBudgetConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · The cached service methods hit the database once, return copies, and are evicted by the writes (local transport).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryBudgetConfiguration.class)
+class CachedLookupsTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private RoleService roleService;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    @Test
+    void userIsCachedAndEvictedByUpdate() {
+        UserDTO user = userService.findByUserName("lionel@employee.com");
+        QueryBudget.assertAtMost(0, () -> userService.findByUserName("lionel@employee.com"));
+
+        user.setPhone("5550001111"); // A copy: the cached user doesn't change.
+        assertNotEquals("5550001111", userService.findByUserName("lionel@employee.com").getPhone());
+
+        userService.update(user);
+        assertEquals("5550001111", userService.findByUserName("lionel@employee.com").getPhone());
+    }
+
+    @Test
+    void projectIsCachedAndEvictedByUpdate() {
+        ProjectDTO project = projectService.getByProjectCode("SP01");
+        QueryBudget.assertAtMost(0, () -> projectService.getByProjectCode("SP01"));
+
+        project.setProjectDetail("Cache invalidation");
+        projectService.update(project);
+        assertEquals("Cache invalidation", projectService.getByProjectCode("SP01").getProjectDetail());
+    }
+
+    @Test
+    void rolesAreCached() {
+        roleService.listAllRoles();
+        assertEquals(3, QueryBudget.assertAtMost(0, () -> roleService.listAllRoles()).size());
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.company.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · A clock that the test moves forward, so no test waits for the TTL.
+ */
+class ExpiringConcurrentMapCacheTest {
+
+    private final MovableClock clock = new MovableClock();
+    private final ExpiringConcurrentMapCache cache = new ExpiringConcurrentMapCache("users", false,
+            new SerializationDelegate(getClass().getClassLoader()), Duration.ofMinutes(10), clock);
+
+    @Test
+    void valueExpiresTtlAfterItWasWritten() {
+        cache.put("harold@manager.com", "user");
+        clock.advance(Duration.ofMinutes(10).minusMillis(1));
+        assertEquals("user", cache.get("harold@manager.com", String.class));
+
+        clock.advance(Duration.ofMillis(1));
+        assertNull(cache.get("harold@manager.com"));
+        assertTrue(cache.getNativeCache().isEmpty()); // Removed when it was read.
+    }
+
+    @Test
+    void writingAgainStartsANewTtl() {
+        cache.put("harold@manager.com", "old");
+        clock.advance(Duration.ofMinutes(9));
+        cache.put("harold@manager.com", "new");
+        clock.advance(Duration.ofMinutes(9));
+        assertEquals("new", cache.get("harold@manager.com", String.class));
+    }
+
+    @Test
+    void expiredValueIsLoadedAgain() {
+        cache.put("harold@manager.com", "old");
+        clock.advance(Duration.ofMinutes(11));
+        assertEquals("loaded", cache.get("harold@manager.com", () -> "loaded"));
+        assertEquals("loaded", cache.get("harold@manager.com", String.class));
+    }
+
+    @Test
+    void hitsAreCopies() {
+        List<String> value = new ArrayList<>(List.of("a"));
+        cache.put("key", value);
+        @SuppressWarnings("unchecked")
+        List<String> hit = (List<String>) cache.get("key").get();
+        hit.add("b");
+        assertEquals(List.of("a"), cache.get("key").get());
+    }
+
+    private static class MovableClock extends Clock {
+        private Instant now = Instant.parse("2022-01-05T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+}
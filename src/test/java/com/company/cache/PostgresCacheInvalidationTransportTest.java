@@ -0,0 +1,134 @@
+package com.company.cache;
+
+import com.company.support.PostgresTestDatabase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · The real transport on embedded Postgres, without Spring: The "test" profile forces cache-invalidation.transport=local,
+ *   so no other test runs LISTEN/NOTIFY.
+ * · Its own channel, so it never receives the notifications of another test on the same server.
+ * · A reconnect is caused by terminating the listening backend, like a database restart or a network failure would.
+ */
+class PostgresCacheInvalidationTransportTest {
+    private static final String CHANNEL = "cache_invalidation_transport_test";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingQueue<CacheInvalidation> received = new LinkedBlockingQueue<>();
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private PostgresCacheInvalidationTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(PostgresTestDatabase.server().getJdbcUrl("postgres", "postgres"));
+        properties.setUsername("postgres");
+        properties.setPassword("postgres");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(properties.getUrl(), "postgres", "postgres");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transport = new PostgresCacheInvalidationTransport(jdbcTemplate, properties, meterRegistry, CHANNEL, Duration.ofMillis(100), Duration.ofMillis(100));
+        transport.subscribe(received::add);
+        awaitListening();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        transport.shutdown();
+    }
+
+    @Test
+    void invalidation_isDeliveredAtTheCommit() {
+        CacheInvalidation invalidation = new CacheInvalidation(CacheNames.USERS, "harold@manager.com");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            transport.publish(invalidation);
+            assertNull(poll(300)); // Postgres holds it until the commit.
+        });
+
+        assertEquals(invalidation, poll(5000));
+    }
+
+    @Test
+    void invalidation_isDroppedAtARollback() {
+        transactionTemplate.executeWithoutResult(status -> {
+            transport.publish(new CacheInvalidation(CacheNames.USERS, "rolled-back@employee.com"));
+            status.setRollbackOnly();
+        });
+        CacheInvalidation committed = new CacheInvalidation(CacheNames.USERS, "committed@employee.com");
+        transactionTemplate.executeWithoutResult(status -> transport.publish(committed));
+
+        assertEquals(committed, poll(5000)); // The first one that arrives: The rolled back one never does.
+        assertNull(poll(300));
+    }
+
+    @Test
+    void reconnect_clearsEveryCache() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.USERS, CacheNames.PROJECTS);
+        new CacheInvalidator(cacheManager, transport, meterRegistry); // Subscribes to the transport.
+        Cache users = cacheManager.getCache(CacheNames.USERS);
+        Cache projects = cacheManager.getCache(CacheNames.PROJECTS);
+        users.put("harold@manager.com", "user");
+        projects.put("SP00", "project");
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(pg_terminate_backend(pid)) FROM pg_stat_activity WHERE query = ?",
+                Integer.class, "LISTEN " + CHANNEL));
+
+        assertEquals(CacheInvalidation.everything(), poll(5000)); // Notifications may have been missed while disconnected.
+        awaitCleared(users, "harold@manager.com"); // The queue is subscribed before the CacheInvalidator, so it may get it first.
+        awaitCleared(projects, "SP00");
+        assertEquals(1, meterRegistry.get("cache.invalidation.reconnects").counter().count());
+        awaitListening(); // And it listens again.
+    }
+
+    private void awaitListening() { // Notifications sent before LISTEN ran are not delivered, so probe until one is.
+        CacheInvalidation probe = new CacheInvalidation(CacheNames.ROLES, "probe");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            transport.publish(probe);
+            CacheInvalidation invalidation;
+            while ((invalidation = poll(100)) != null) {
+                if (probe.equals(invalidation)) {
+                    received.clear();
+                    return;
+                }
+            }
+        }
+        fail("The transport never started listening.");
+    }
+
+    private static void awaitCleared(Cache cache, String key) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.get(key) != null) {
+            assertTrue(System.nanoTime() < deadline, cache.getName() + " was never cleared");
+            Thread.onSpinWait();
+        }
+    }
+
+    private CacheInvalidation poll(long millis) { // Also called inside the transactions, where no checked exception fits.
+        try {
+            return received.poll(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.company.controller;
+
+import com.company.support.PostgresTestDatabase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * 🖍️...
+ * · An unknown username, project code or task id is 404, not 500.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LookupNotFoundTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "lookup_not_found_test");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void unknownLookupsAreNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/user/nobody@company.com")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/project/NOPE")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/task/999999")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void knownLookupsAreFound() throws Exception {
+        streamed("/api/v1/user/harold@manager.com").andExpect(status().isOk()).andExpect(jsonPath("$.userName").value("harold@manager.com"));
+        streamed("/api/v1/project/SP00").andExpect(status().isOk()).andExpect(jsonPath("$.projectCode").value("SP00"));
+    }
+
+    private ResultActions streamed(String url) throws Exception { // A StreamingResponseBody is written asynchronously.
+        MvcResult result = mockMvc.perform(get(url)).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+}
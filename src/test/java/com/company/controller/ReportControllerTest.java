@@ -0,0 +1,38 @@
+package com.company.controller;
+
+import com.company.service.TaskThroughputService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * 🖍️...
+ * · report.max-range-days=31: A 31 day range is answered, a 32 day or a reversed range is 400 without reaching the service.
+ */
+class ReportControllerTest {
+
+    private final TaskThroughputService taskThroughputService = mock(TaskThroughputService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ReportController(taskThroughputService, 31)).build();
+
+    @Test
+    void rangeWithinTheLimit_isAnswered() throws Exception {
+        mockMvc.perform(get("/api/v1/report/throughput/project/SP00?from=2022-01-01&to=2022-01-31")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/report/throughput/employee/john@employee.com?from=2022-01-01&to=2022-01-01")).andExpect(status().isOk());
+    }
+
+    @Test
+    void rangeOverTheLimitOrReversed_isBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/report/throughput/project/SP00?from=2022-01-01&to=2022-02-01")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/report/throughput/employee/john@employee.com?from=2020-01-01&to=2022-01-01")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/report/throughput/project/SP00?from=2022-01-02&to=2022-01-01")).andExpect(status().isBadRequest());
+        verify(taskThroughputService, never()).listDailyThroughputByProject(any(), any(), any());
+        verify(taskThroughputService, never()).listDailyThroughputByEmployee(any(), any(), any());
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.company.controller;
+
+import com.company.support.PostgresTestDatabase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+ * 🖍️...
+ * · POST /api/v1/task/batch/{projectCode} on embedded Postgres with reWriteBatchedInserts=true, like production.
+ * · task-assignment.max-batch-size=2500: Big enough that the history INSERT ... SELECT runs in more than one chunk.
+ */
+@SpringBootTest(properties = "task-assignment.max-batch-size=2500")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskAssignmentTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "task_assignment_test");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createsTasksWithGeneratedIdsHistoryAndRollups() throws Exception {
+        String subject = UUID.randomUUID().toString();
+        long createdBefore = createdToday("SP02", 4L) + createdToday("SP02", 5L);
+
+        assign("SP02", assignments(subject, 2500, 4L, 5L)).andExpect(status().isCreated()).andExpect(jsonPath("$.created").value(2500));
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM tasks WHERE task_subject LIKE ? ORDER BY id", Long.class, subject + "%");
+        assertEquals(2500, ids.size());
+        assertEquals(2500, new HashSet<>(ids).size());
+        List<Map<String, Object>> histories = jdbcTemplate.queryForList("SELECT h.task_id, h.project_id, h.employee_id, h.from_status, h.to_status, " +
+                "t.project_id AS task_project_id, t.assigned_employee_id FROM task_status_histories h JOIN tasks t ON t.id = h.task_id WHERE t.task_subject LIKE ?", subject + "%");
+        assertEquals(2500, histories.size()); // One creation row per task, also across the chunks.
+        for (Map<String, Object> history : histories) {
+            assertNull(history.get("from_status"));
+            assertEquals(1, ((Number) history.get("to_status")).intValue()); // OPEN
+            assertEquals(history.get("task_project_id"), history.get("project_id"));
+            assertEquals(history.get("assigned_employee_id"), history.get("employee_id"));
+        }
+        assertEquals(createdBefore + 2500, createdToday("SP02", 4L) + createdToday("SP02", 5L));
+        assertEquals(1250, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE task_subject LIKE ? AND assigned_employee_id = 4", Long.class, subject + "%"));
+    }
+
+    @Test
+    void invalidBatchesAreRejectedWithoutInsertingAnything() throws Exception {
+        String subject = UUID.randomUUID().toString();
+
+        assign("NOPE", assignments(subject, 2, 4L)).andExpect(status().isBadRequest()).andExpect(jsonPath("$.message").value("Project NOPE does not exist."));
+        assign("SP02", assignments(subject, 2, 4L, null)).andExpect(status().isBadRequest()).andExpect(jsonPath("$.message").value("Every assignment needs an assignedEmployeeId."));
+        assign("SP02", assignments(subject, 2, 4L, 2L)).andExpect(status().isBadRequest()).andExpect(jsonPath("$.message").value("Users [2] are not employees."));
+        assign("SP02", assignments(subject, 2501, 4L)).andExpect(status().isBadRequest()).andExpect(jsonPath("$.message").value("At most 2500 tasks can be assigned in one request."));
+        assign("SP02", List.of()).andExpect(status().isCreated()).andExpect(jsonPath("$.created").value(0));
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE task_subject LIKE ?", Long.class, subject + "%"));
+    }
+
+    private ResultActions assign(String projectCode, List<Map<String, Object>> assignments) throws Exception {
+        return mockMvc.perform(post("/api/v1/task/batch/" + projectCode).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(assignments)));
+    }
+
+    private static List<Map<String, Object>> assignments(String subject, int count, Long... employeeIds) {
+        List<Map<String, Object>> assignments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> assignment = new HashMap<>();
+            assignment.put("assignedEmployeeId", employeeIds[i % employeeIds.length]);
+            assignment.put("taskSubject", subject + "-" + i);
+            assignment.put("taskDetail", "batch");
+            assignments.add(assignment);
+        }
+        return assignments;
+    }
+
+    private long createdToday(String projectCode, Long employeeId) {
+        Long created = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(r.created_count), 0) FROM task_daily_rollups r JOIN projects p ON p.id = r.project_id " +
+                "WHERE p.project_code = ? AND r.employee_id = ? AND r.rollup_date = ?", Long.class, projectCode, employeeId, LocalDate.now());
+        return created == null ? 0 : created;
+    }
+
+}
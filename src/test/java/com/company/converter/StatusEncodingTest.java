@@ -0,0 +1,77 @@
+package com.company.converter;
+
+import com.company.entity.Project;
+import com.company.entity.Task;
+import com.company.entity.User;
+import com.company.enums.Gender;
+import com.company.enums.Status;
+import com.company.repository.ProjectRepository;
+import com.company.repository.TaskRepository;
+import com.company.repository.UserRepository;
+import com.company.service.TaskThroughputService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · The enum columns hold the SMALLINT codes, and the queries with a COMPLETE literal (JPQL constant / native code) agree with
+ *   the statuses of the loaded entities.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StatusEncodingTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    @Test
+    void columnsHoldTheCodes() {
+        assertEquals(List.of(1, 2, 3), jdbcTemplate.queryForList("SELECT DISTINCT task_status FROM tasks ORDER BY task_status", Integer.class));
+        Task task = taskRepository.findAll().get(0);
+        Integer code = jdbcTemplate.queryForObject("SELECT task_status FROM tasks WHERE id = ?", Integer.class, task.getId());
+        assertEquals(task.getTaskStatus(), Status.fromCode(code.shortValue()));
+        assertEquals(Gender.MALE, userRepository.findByUserName("harold@manager.com").getGender());
+    }
+
+    @Test
+    void completeLiteralsMatchTheEntities() {
+        User manager = userRepository.findByUserName("harold@manager.com");
+        Map<Long, TaskRepository.ProjectTaskCounts> counts = taskRepository.countTasksOfManagerProjects(manager).stream()
+                .collect(Collectors.toMap(TaskRepository.ProjectTaskCounts::getProjectId, c -> c));
+        for (Project project : projectRepository.findAllByAssignedManager(manager)) {
+            List<Task> tasks = taskRepository.findAllByProject(project);
+            long complete = tasks.stream().filter(task -> task.getTaskStatus() == Status.COMPLETE).count();
+
+            assertEquals(complete, taskRepository.totalCompletedTasks(project.getId()));
+            assertEquals(tasks.size() - complete, taskRepository.totalNonCompletedTasks(project.getId()));
+            assertEquals(complete, counts.get(project.getId()).getCompleteTaskCounts());
+            assertEquals(tasks.size() - complete, counts.get(project.getId()).getUnfinishedTaskCounts());
+            assertEquals(tasks.size() - complete, taskRepository.countByProjectIdAndTaskStatusIsNot(project.getId(), Status.COMPLETE));
+        }
+    }
+
+    @Test
+    void unknownCodeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new StatusConverter().convertToEntityAttribute((short) 9));
+        assertNull(new StatusConverter().convertToDatabaseColumn(null));
+    }
+
+}
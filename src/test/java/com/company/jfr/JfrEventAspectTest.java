@@ -0,0 +1,84 @@
+package com.company.jfr;
+
+import com.company.enums.Status;
+import com.company.repository.TaskRepository;
+import com.company.service.ProjectService;
+import com.company.service.TaskService;
+import com.company.service.TaskThroughputService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · Records the events of a few service calls with a 0 ms threshold, and reads them back from the .jfr file.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JfrEventAspectTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectService projectService;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    @Test
+    void serviceRepositoryAndMappingEvents(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("test.jfr");
+        int openTasks;
+        try (Recording recording = new Recording()) {
+            recording.enable(ServiceCallEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(RepositoryQueryEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(MappingEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            openTasks = taskService.listAllTasksByStatus(Status.OPEN).size();
+            projectService.listAllProjects();
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        RecordedEvent service = find(events, "com.company.ServiceCall", "TaskServiceImpl.listAllTasksByStatus").orElseThrow();
+        assertEquals("Task", service.getString("entityType"));
+        assertEquals(openTasks, service.getInt("rowCount"));
+        assertFalse(service.getBoolean("failed"));
+
+        RecordedEvent query = find(events, "com.company.RepositoryQuery", "ProjectRepository.findAll").orElseThrow();
+        assertEquals("Project", query.getString("entityType"));
+        assertTrue(query.getInt("rowCount") > 0);
+
+        List<RecordedEvent> mappings = events.stream().filter(event -> event.getEventType().getName().equals("com.company.Mapping"))
+                .collect(Collectors.toList());
+        assertTrue(mappings.stream().anyMatch(event -> event.getString("operation").equals("TaskMapper.convertToDTO")
+                && event.getString("entityType").equals("Task") && event.getInt("rowCount") == 1));
+    }
+
+    @Test
+    void rowCount_isTheRowsChangedByAModifyingQuery_butOneForACount() throws Exception {
+        assertEquals(3, JfrEventAspect.rowCount(3, TaskRepository.class.getMethod("updateOverdue", Collection.class, Collection.class)));
+        assertEquals(1, JfrEventAspect.rowCount(20_000L, TaskRepository.class.getMethod("countByProjectId", Long.class)));
+        assertEquals(1, JfrEventAspect.rowCount(20_000L, TaskRepository.class.getMethod("count")));
+        assertEquals(2, JfrEventAspect.rowCount(List.of("a", "b"), TaskRepository.class.getMethod("findAll")));
+        assertEquals(0, JfrEventAspect.rowCount(Optional.empty(), TaskRepository.class.getMethod("findById", Long.class)));
+    }
+
+    private Optional<RecordedEvent> find(List<RecordedEvent> events, String type, String operation) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(type) && operation.equals(event.getString("operation"))).findFirst();
+    }
+
+}
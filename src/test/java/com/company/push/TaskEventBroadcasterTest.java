@@ -0,0 +1,169 @@
+package com.company.push;
+
+import com.company.dto.TaskDTO;
+import com.company.enums.Status;
+import com.company.service.TaskService;
+import com.company.service.TaskThroughputService;
+import com.company.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · Real TaskService changes on the "test" profile (H2); the subscribers get emitters that record the task events they are sent.
+ * · task-events.dispatcher-threads=1: The drains run one after the other, in the order the deltas were offered. Once every expected
+ *   subscriber got its delta, a wrongly routed delta of the same change would already have been sent too.
+ * · Seeded data: SP00 and SP01 are Harold's (id 2), SP02 and SP03 are Samantha's (id 3). Employees have the ids 4 to 7.
+ */
+@SpringBootTest(properties = "task-events.dispatcher-threads=1")
+@ActiveProfiles("test")
+class TaskEventBroadcasterTest {
+
+    @Autowired
+    private TaskEventBroadcaster taskEventBroadcaster;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    @Test
+    void delta_isRoutedToTheManagerAndTheCurrentAndPreviousEmployee() throws Exception {
+        Map<String, Object> task = taskOfProject("SP00");
+        Long employeeId = ((Number) task.get("assigned_employee_id")).longValue();
+        Long newEmployeeId = employeeId == 4L ? 5L : 4L;
+        Long bystanderId = employeeId == 6L || newEmployeeId == 6L ? 7L : 6L;
+        RecordingEmitter manager = new RecordingEmitter();
+        RecordingEmitter otherManager = new RecordingEmitter();
+        RecordingEmitter previousEmployee = new RecordingEmitter();
+        RecordingEmitter newEmployee = new RecordingEmitter();
+        RecordingEmitter bystander = new RecordingEmitter();
+        taskEventBroadcaster.subscribeManager(2L, manager);
+        taskEventBroadcaster.subscribeManager(3L, otherManager);
+        taskEventBroadcaster.subscribeEmployee(employeeId, previousEmployee);
+        taskEventBroadcaster.subscribeEmployee(newEmployeeId, newEmployee);
+        taskEventBroadcaster.subscribeEmployee(bystanderId, bystander);
+        try {
+            TaskDTO dto = taskService.findById(((Number) task.get("id")).longValue());
+            dto.setAssignedEmployee(userService.findByUserName(userName(newEmployeeId)));
+            taskService.update(dto);
+
+            for (RecordingEmitter emitter : List.of(manager, previousEmployee, newEmployee)) {
+                String delta = emitter.awaitDeltas(1).get(0);
+                assertTrue(delta.contains("\"type\":\"UPDATED\""), delta);
+                assertTrue(delta.contains("\"managerId\":2"), delta);
+                assertTrue(delta.contains("\"assignedEmployeeId\":" + newEmployeeId), delta);
+                assertTrue(delta.contains("\"previousAssignedEmployeeId\":" + employeeId), delta);
+            }
+            assertTrue(otherManager.deltas.isEmpty());
+            assertTrue(bystander.deltas.isEmpty());
+        } finally {
+            List.of(manager, otherManager, previousEmployee, newEmployee, bystander).forEach(SseEmitter::complete);
+        }
+    }
+
+    @Test
+    void delta_isPushedOnlyAfterTheCommit_andNeverForARollback() throws Exception {
+        Map<String, Object> task = taskOfProject("SP02");
+        Long taskId = ((Number) task.get("id")).longValue();
+        RecordingEmitter manager = new RecordingEmitter();
+        taskEventBroadcaster.subscribeManager(3L, manager);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                taskService.updateStatus(withStatus(taskId, Status.IN_PROGRESS));
+                assertTrue(manager.deltas.isEmpty()); // Not before the commit.
+                status.setRollbackOnly();
+            });
+            transactionTemplate.executeWithoutResult(status -> {
+                taskService.updateStatus(withStatus(taskId, Status.OPEN));
+                assertTrue(manager.deltas.isEmpty());
+            });
+
+            List<String> deltas = manager.awaitDeltas(1);
+            assertEquals(1, deltas.size()); // The rolled back change was never offered, so the committed one is the first.
+            assertTrue(deltas.get(0).contains("\"taskStatus\":\"OPEN\""), deltas.get(0));
+            assertTrue(deltas.get(0).contains("\"managerId\":3"), deltas.get(0)); // updateStatus() only has an id-only reference of the project.
+        } finally {
+            manager.complete();
+        }
+    }
+
+    @Test
+    void delta_ofATaskThatWasUnassigned_reachesTheManagerAndThePreviousEmployee() throws Exception {
+        Map<String, Object> task = taskOfProject("SP01");
+        Long taskId = ((Number) task.get("id")).longValue();
+        Long employeeId = ((Number) task.get("assigned_employee_id")).longValue();
+        RecordingEmitter manager = new RecordingEmitter();
+        RecordingEmitter previousEmployee = new RecordingEmitter();
+        taskEventBroadcaster.subscribeManager(2L, manager);
+        taskEventBroadcaster.subscribeEmployee(employeeId, previousEmployee);
+        try {
+            TaskDTO dto = taskService.findById(taskId);
+            dto.setAssignedEmployee(null);
+            taskService.update(dto); // The delta's assignedEmployeeId is null.
+
+            for (RecordingEmitter emitter : List.of(manager, previousEmployee)) {
+                String delta = emitter.awaitDeltas(1).get(0);
+                assertTrue(delta.contains("\"managerId\":2"), delta);
+                assertTrue(delta.contains("\"previousAssignedEmployeeId\":" + employeeId), delta);
+            }
+        } finally {
+            List.of(manager, previousEmployee).forEach(SseEmitter::complete);
+            jdbcTemplate.update("UPDATE tasks SET assigned_employee_id = ? WHERE id = ?", employeeId, taskId);
+        }
+    }
+
+    private Map<String, Object> taskOfProject(String projectCode) {
+        return jdbcTemplate.queryForMap("SELECT t.id, t.assigned_employee_id FROM tasks t JOIN projects p ON p.id = t.project_id " +
+                "WHERE p.project_code = ? AND t.is_deleted = false ORDER BY t.id LIMIT 1", projectCode);
+    }
+
+    private String userName(Long id) {
+        return jdbcTemplate.queryForObject("SELECT user_name FROM users WHERE id = ?", String.class, id);
+    }
+
+    private static TaskDTO withStatus(Long taskId, Status status) {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(taskId);
+        dto.setTaskStatus(status);
+        return dto;
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> deltas = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .filter(data -> MediaType.APPLICATION_JSON.equals(data.getMediaType())) // Heartbeats are comments without JSON data.
+                    .forEach(data -> deltas.add((String) data.getData()));
+        }
+
+        List<String> awaitDeltas(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (deltas.size() < count) {
+                assertTrue(System.nanoTime() < deadline, "never received " + count + " deltas");
+                Thread.sleep(5);
+            }
+            return deltas;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.company.push;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · The emitter is replaced with one that records (or blocks, or fails) the sends, so no HTTP connection is needed.
+ */
+class TaskEventSubscriberTest {
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+
+    @Test
+    void offer_sendsEveryDeltaInOrder() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(emitter, 8, dispatcher, closed -> {});
+        for (int i = 0; i < 5; i++) {
+            assertTrue(subscriber.offer("{\"taskId\":" + i + "}"));
+        }
+        dispatcher.shutdown();
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(5, emitter.sent.size());
+    }
+
+    @Test
+    void offer_returnsFalseWhenTheBufferOfASlowConsumerIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter emitter = new RecordingEmitter(release);
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(emitter, 2, dispatcher, closed -> {});
+        assertTrue(subscriber.offer("{}"));       // taken by the dispatcher, which blocks in send()
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+        assertTrue(subscriber.offer("{}"));
+        assertTrue(subscriber.offer("{}"));
+        assertFalse(subscriber.offer("{}"));      // 2 deltas are already waiting
+        release.countDown();
+    }
+
+    @Test
+    void close_isCalledOnceWhenTheClientIsGone() throws Exception {
+        AtomicInteger closes = new AtomicInteger();
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(emitter, 8, dispatcher, closed -> closes.incrementAndGet());
+        subscriber.offer("{}");
+        dispatcher.shutdown();
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+        subscriber.close();
+        assertEquals(1, closes.get());
+        assertTrue(subscriber.offer("{}")); // A closed subscriber ignores deltas instead of being evicted again.
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<SseEventBuilder> sent = new ArrayList<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(builder);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.company.readmodel;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskColumnsTest {
+
+    private static final byte OPEN = 0;
+    private static final byte COMPLETE = 2;
+
+    @Test
+    void upsert_keepsIdsSortedWhenACommitArrivesOutOfOrder() {
+        TaskColumns columns = new TaskColumns(0);
+        columns.upsert(1, 10, 100L, OPEN, 0L);
+        columns.upsert(3, 10, 100L, OPEN, 0L);
+        columns.upsert(2, 20, 200L, COMPLETE, 0L);
+        columns.upsert(3, 20, 200L, COMPLETE, 0L); // update, not a new row
+
+        int[][] byProject = columns.countByStatus(true, 3);
+        assertEquals(3, columns.size());
+        assertEquals(1, byProject[columns.projects().find(10)][OPEN]);
+        assertEquals(2, byProject[columns.projects().find(20)][COMPLETE]);
+    }
+
+    @Test
+    void remove_compactsWhenAQuarterOfTheRowsAreDeleted() {
+        TaskColumns columns = new TaskColumns(0);
+        for (long id = 1; id <= 100; id++) {
+            columns.upsert(id, 1, id % 2 == 0 ? null : 7L, OPEN, 0L);
+        }
+        for (long id = 1; id <= 30; id++) {
+            columns.remove(id);
+        }
+        columns.remove(31);
+        columns.remove(31); // already removed
+        assertEquals(69, columns.size());
+        assertEquals(69, columns.countByStatus(true, 3)[0][OPEN]);
+        assertEquals(34, columns.countByStatus(false, 3)[0][OPEN]); // tasks without an employee are not counted by employee
+
+        columns.upsert(5, 1, 7L, OPEN, 0L); // a removed id can come back
+        assertEquals(70, columns.size());
+    }
+
+    @Test
+    void ageHistogram_countsOnlyTasksThatAreNotComplete() {
+        TaskColumns columns = new TaskColumns(0);
+        columns.upsert(1, 1, 1L, OPEN, 100L);     // age 0
+        columns.upsert(2, 1, 1L, OPEN, 95L);      // age 5
+        columns.upsert(3, 1, 1L, OPEN, 50L);      // age 50
+        columns.upsert(4, 1, 1L, COMPLETE, 50L);
+        columns.upsert(5, 2, 1L, OPEN, 100L);     // other project
+
+        assertArrayEquals(new int[]{1, 1, 1}, columns.ageHistogram(100, new int[]{1, 7}, COMPLETE, columns.projects().find(1)));
+        assertArrayEquals(new int[]{2, 1, 1}, columns.ageHistogram(100, new int[]{1, 7}, COMPLETE, TaskColumns.NONE));
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.company.readmodel;
+
+import com.company.dto.TaskAgeBucketDTO;
+import com.company.dto.TaskDTO;
+import com.company.dto.TaskDeltaDTO;
+import com.company.enums.Status;
+import com.company.enums.TaskChangeType;
+import com.company.repository.TaskRepository;
+import com.company.service.TaskService;
+import com.company.service.TaskThroughputService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+/*
+ * 🖍️...
+ * · The read model is loaded from data.sql when the context starts, and must agree with the database after every change.
+ */
+@SpringBootTest(properties = "task-read-model.enabled=true")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class TaskReadModelTest {
+
+    @Autowired
+    private TaskReadModel taskReadModel;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    @Test
+    void load_matchesTheDatabase() {
+        assertEquals(taskRepository.count(), taskReadModel.size());
+        Map<Status, Integer> project1 = taskReadModel.countByProjectAndStatus().get(1L);
+        assertEquals(taskRepository.totalCompletedTasks(1L), project1.get(Status.COMPLETE));
+        assertEquals(taskRepository.totalNonCompletedTasks(1L), project1.get(Status.OPEN) + project1.get(Status.IN_PROGRESS));
+    }
+
+    @Test
+    void mutations_areAppliedAfterTheCommit() {
+        int openBefore = taskReadModel.countByEmployeeAndStatus().get(4L).get(Status.OPEN);
+        TaskDTO task = taskService.findById(1L); // OPEN task of employee 4
+        task.setTaskStatus(Status.COMPLETE);
+        taskService.updateStatus(task);
+        assertEquals(openBefore - 1, taskReadModel.countByEmployeeAndStatus().get(4L).get(Status.OPEN));
+
+        int size = taskReadModel.size();
+        taskService.delete(2L);
+        assertEquals(size - 1, taskReadModel.size());
+
+        TaskDTO created = taskService.findById(4L);
+        created.setId(null);
+        taskService.save(created);
+        assertEquals(size, taskReadModel.size());
+        List<TaskAgeBucketDTO> ages = taskReadModel.openTaskAgeDistribution(1L, LocalDate.now());
+        assertEquals(1, ages.get(0).getTaskCount()); // the new task was assigned today
+    }
+
+    @Test
+    void reload_picksUpChangesThatCameWithoutADelta() { // Ex: committed by another instance.
+        int completedBefore = taskReadModel.countByProjectAndStatus().get(1L).get(Status.COMPLETE);
+        jdbcTemplate.update("UPDATE tasks SET task_status = ? WHERE id = 1", Status.COMPLETE.getCode());
+        assertEquals(completedBefore, taskReadModel.countByProjectAndStatus().get(1L).get(Status.COMPLETE));
+
+        taskReadModel.reload();
+
+        assertEquals(completedBefore + 1, taskReadModel.countByProjectAndStatus().get(1L).get(Status.COMPLETE));
+        assertEquals(taskRepository.count(), taskReadModel.size());
+    }
+
+    @Test
+    void failedLoad_keepsThePreviousCopyAndTheNextReloadSucceeds() {
+        TaskRepository failingOnce = Mockito.mock(TaskRepository.class, AdditionalAnswers.delegatesTo(taskRepository));
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TaskReadModel model = new TaskReadModel(failingOnce, transactionManager, meterRegistry, new int[]{1, 7, 30, 90});
+        TaskDeltaDTO committedWhileLoading = new TaskDeltaDTO(TaskChangeType.CREATED, 1_000_000L, 1L, 2L, 4L, null, null, Status.OPEN, LocalDate.now());
+        Mockito.doAnswer(invocation -> {
+            model.onTaskChanged(committedWhileLoading); // Buffered, because the load is running.
+            throw new DataAccessResourceFailureException("connection refused");
+        }).doAnswer(AdditionalAnswers.delegatesTo(taskRepository)).when(failingOnce).forEachTaskRow(any());
+
+        model.load();
+
+        assertEquals(1, model.size()); // The empty previous copy, plus the buffered delta.
+        assertEquals(1, meterRegistry.get("task.read.model.load.failures").counter().count());
+        model.onTaskChanged(new TaskDeltaDTO(TaskChangeType.CREATED, 1_000_001L, 1L, 2L, 4L, null, null, Status.OPEN, LocalDate.now()));
+        assertEquals(2, model.size()); // Applied at once: The model is not stuck in the loading state.
+
+        model.reload();
+
+        assertEquals(taskRepository.count(), model.size());
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.company.repository;
+
+import com.company.entity.Project;
+import com.company.service.TaskService;
+import com.company.support.PostgresTestDatabase;
+import com.company.support.QueryBudget;
+import com.company.support.QueryBudgetConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/*
+ * 🖍️...
+ * · "partitioned" profile on embedded Postgres: The statements that the per-project queries really execute are recorded,
+ *   and their EXPLAIN must scan exactly one partition of tasks (partition pruning, Check db/tasks-partitioned.sql).
+ * · Every recorded statement on tasks has one parameter, the project id, so the EXPLAIN binds it like the query did.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "partitioned"})
+@Import(QueryBudgetConfiguration.class)
+class TaskPartitionPruningTest {
+
+    private static final Pattern PARTITION = Pattern.compile("on (tasks_p\\d+)\\b");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "task_partition_pruning_test");
+    }
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void perProjectQueries_scanOnePartition() {
+        Project project = projectRepository.findByProjectCode("SP01");
+
+        assertScansOnePartition(project.getId(), () -> taskService.totalCompletedTask("SP01"));
+        assertScansOnePartition(project.getId(), () -> taskService.totalNonCompletedTask("SP01"));
+        assertScansOnePartition(project.getId(), () -> taskRepository.findAllByProject(project));
+    }
+
+    private void assertScansOnePartition(Long projectId, Runnable call) {
+        List<String> taskQueries = QueryBudget.statementsOf(call).stream()
+                .filter(sql -> sql.matches("(?is).*\\bfrom tasks\\b.*")).collect(Collectors.toList());
+        assertFalse(taskQueries.isEmpty());
+        for (String sql : taskQueries) {
+            assertEquals(1, sql.chars().filter(c -> c == '?').count(), sql);
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, projectId));
+            Matcher partitions = PARTITION.matcher(plan);
+            Set<String> scanned = new HashSet<>();
+            while (partitions.find()) {
+                scanned.add(partitions.group(1));
+            }
+            assertEquals(1, scanned.size(), plan);
+        }
+    }
+
+}
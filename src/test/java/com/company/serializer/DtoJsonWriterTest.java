@@ -0,0 +1,131 @@
+package com.company.serializer;
+
+import com.company.dto.ProjectDTO;
+import com.company.dto.RoleDTO;
+import com.company.dto.TaskDTO;
+import com.company.dto.UserDTO;
+import com.company.enums.Status;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DtoJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DtoJsonWriter writer = new DtoJsonWriter(objectMapper);
+    private final UserDTO manager = user(2L, "harold@manager.com", "Manager");
+    private final UserDTO employee = user(4L, "john@employee.com", "Employee");
+    private final ProjectDTO project = project();
+    private final TaskDTO task = task(1L);
+
+    @Test
+    void fullShapeNeverWritesPasswords() throws Exception {
+        JsonNode json = write(out -> writer.writeTask(out, task, FieldSelection.all()));
+        assertEquals("SP00", json.at("/project/projectCode").asText());
+        assertEquals("Manager", json.at("/project/assignedManager/role/description").asText());
+        assertEquals("OPEN", json.get("taskStatus").asText());
+        assertEquals("2022-01-05", json.get("assignedDate").asText());
+        assertFalse(json.get("assignedEmployee").has("passWord"));
+        assertFalse(json.get("assignedEmployee").has("confirmPassWord"));
+    }
+
+    @Test
+    void sparseFieldsetsAndIdsForUnexpandedAssociations() throws Exception {
+        FieldSelection selection = FieldSelection.of(FieldSelection.TASK,
+                Map.of("fields", "id,project,assignedEmployee", "fields[project]", "projectCode,assignedManager", "expand", "project"));
+        JsonNode json = write(out -> writer.writeTask(out, task, selection));
+        assertEquals(List.of("id", "project", "assignedEmployee"), fieldNames(json));
+        assertEquals(List.of("projectCode", "assignedManager"), fieldNames(json.get("project")));
+        assertEquals(2, json.at("/project/assignedManager").asLong());
+        assertEquals(4, json.get("assignedEmployee").asLong());
+    }
+
+    @Test
+    void normalizedShapeWritesEveryProjectAndUserOnce() throws Exception {
+        JsonNode json = write(out -> writer.writeTasksNormalized(out, List.of(task, task(2L)), FieldSelection.all()));
+        assertEquals(2, json.get("tasks").size());
+        assertEquals(1, json.at("/tasks/1/project").asLong());
+        assertEquals(4, json.at("/tasks/1/assignedEmployee").asLong());
+        assertEquals(2, json.at("/projects/1/assignedManager").asLong());
+        assertEquals(List.of("4", "2"), fieldNames(json.get("users")));
+    }
+
+    @Test
+    void normalizedUsersUseTheirOwnPathForTheRole() throws Exception {
+        FieldSelection managerRoleOnly = FieldSelection.of(FieldSelection.TASK, Map.of("expand", "project,assignedEmployee,project.assignedManager,project.assignedManager.role"));
+        JsonNode json = write(out -> writer.writeTasksNormalized(out, List.of(task), managerRoleOnly));
+        assertEquals("Manager", json.at("/users/2/role/description").asText());
+        assertEquals(3, json.at("/users/4/role").asLong()); // assignedEmployee.role is not expanded: the id only.
+
+        FieldSelection employeeRoleOnly = FieldSelection.of(FieldSelection.TASK, Map.of("expand", "project,assignedEmployee,assignedEmployee.role,project.assignedManager"));
+        json = write(out -> writer.writeTasksNormalized(out, List.of(task), employeeRoleOnly));
+        assertEquals("Employee", json.at("/users/4/role/description").asText());
+        assertEquals(2, json.at("/users/2/role").asLong());
+    }
+
+    @Test
+    void page() throws Exception {
+        JsonNode json = write(out -> writer.writeTaskPage(out, new PageImpl<>(List.of(task),
+                PageRequest.of(1, 1), 3), FieldSelection.all()));
+        assertEquals(1, json.get("content").size());
+        assertEquals(1, json.get("page").asInt());
+        assertEquals(3, json.get("totalElements").asLong());
+        assertEquals(3, json.get("totalPages").asInt());
+    }
+
+    private interface Write {
+        void to(ByteArrayOutputStream out) throws Exception;
+    }
+
+    private JsonNode write(Write write) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write.to(out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static UserDTO user(Long id, String userName, String roleDescription) {
+        RoleDTO role = new RoleDTO();
+        role.setId(roleDescription.equals("Manager") ? 2L : 3L);
+        role.setDescription(roleDescription);
+        UserDTO user = new UserDTO();
+        user.setId(id);
+        user.setUserName(userName);
+        user.setPassWord("$2a$04$hash");
+        user.setConfirmPassWord("$2a$04$hash");
+        user.setRole(role);
+        return user;
+    }
+
+    private ProjectDTO project() {
+        ProjectDTO project = new ProjectDTO();
+        project.setId(1L);
+        project.setProjectCode("SP00");
+        project.setAssignedManager(manager);
+        return project;
+    }
+
+    private TaskDTO task(Long id) {
+        TaskDTO task = new TaskDTO();
+        task.setId(id);
+        task.setProject(project);
+        task.setAssignedEmployee(employee);
+        task.setTaskStatus(Status.OPEN);
+        task.setAssignedDate(LocalDate.of(2022, 1, 5));
+        return task;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.company.serializer;
+
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSelectionTest {
+
+    @Test
+    void withoutParametersEverythingIsIncludedAndExpanded() {
+        FieldSelection selection = FieldSelection.of(FieldSelection.TASK, Map.of());
+        assertTrue(selection.includes(FieldSelection.TASK, "taskSubject"));
+        assertTrue(selection.includes(FieldSelection.USER, "phone"));
+        assertTrue(selection.expands("project.assignedManager.role"));
+    }
+
+    @Test
+    void fieldsOfTheRootAndOfARelatedType() {
+        FieldSelection selection = FieldSelection.of(FieldSelection.TASK, Map.of("fields", "id, taskStatus,", "fields[project]", "projectCode"));
+        assertTrue(selection.includes(FieldSelection.TASK, "id"));
+        assertTrue(selection.includes(FieldSelection.TASK, "taskStatus"));
+        assertFalse(selection.includes(FieldSelection.TASK, "taskDetail"));
+        assertTrue(selection.includes(FieldSelection.PROJECT, "projectCode"));
+        assertFalse(selection.includes(FieldSelection.PROJECT, "projectName"));
+        assertTrue(selection.includes(FieldSelection.USER, "firstName")); // Not listed: every field.
+    }
+
+    @Test
+    void expandListsThePathsAndAnEmptyExpandExpandsNothing() {
+        FieldSelection selection = FieldSelection.of(FieldSelection.TASK, Map.of("expand", "project,project.assignedManager"));
+        assertTrue(selection.expands("project"));
+        assertTrue(selection.expands("project.assignedManager"));
+        assertFalse(selection.expands("assignedEmployee"));
+        assertFalse(selection.expands("project.assignedManager.role"));
+
+        FieldSelection none = FieldSelection.of(FieldSelection.TASK, Map.of("expand", ""));
+        assertFalse(none.expands("project"));
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.company.service;
+
+import com.company.dto.OverdueScanResultDTO;
+import com.company.entity.Project;
+import com.company.entity.ScanCheckpoint;
+import com.company.entity.Task;
+import com.company.enums.Status;
+import com.company.repository.ProjectRepository;
+import com.company.repository.ScanCheckpointRepository;
+import com.company.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · chunk-size=1 and parallelism=2, so the 4 seeded projects are scanned in 2 waves of 2 chunks.
+ * · Every seeded project ended on 2022-06-12 and none of them is COMPLETE, so all of them are overdue.
+ * · Every test starts without a checkpoint and with every flag false. A crashed run is reproduced by writing its checkpoint row.
+ */
+@SpringBootTest(properties = {"overdue-scan.chunk-size=1", "overdue-scan.parallelism=2"})
+@ActiveProfiles("test")
+class OverdueScanServiceTest {
+
+    @Autowired
+    private OverdueScanService overdueScanService;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ScanCheckpointRepository scanCheckpointRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    @BeforeEach
+    void reset() {
+        jdbcTemplate.update("DELETE FROM scan_checkpoints");
+        jdbcTemplate.update("UPDATE projects SET overdue = false");
+        jdbcTemplate.update("UPDATE tasks SET overdue = false");
+    }
+
+    @Test
+    void scan_flagsOverdueProjectsAndTheirUnfinishedTasks() {
+        OverdueScanResultDTO result = overdueScanService.scan();
+
+        long projects = projectRepository.count();
+        assertEquals(projects, result.getScannedProjects());
+        assertEquals(projects, result.getOverdueProjects());
+        assertTrue(projectRepository.findAll().stream().allMatch(project -> project.getOverdue()));
+        for (Task task : taskRepository.findAll()) {
+            assertEquals(task.getTaskStatus() != Status.COMPLETE, task.getOverdue(), "task " + task.getId());
+        }
+        assertTrue(scanCheckpointRepository.findById("overdue-projects").orElseThrow().isCompleted());
+    }
+
+    @Test
+    void scan_resumesAfterTheCheckpointOfACrashedRun() {
+        List<Long> ids = projectIds();
+        crashedRun(ids.get(1), LocalDateTime.now().minusMinutes(1)); // Its lease has expired: The instance is gone.
+
+        OverdueScanResultDTO result = overdueScanService.scan();
+
+        assertTrue(result.isResumed());
+        assertEquals(ids.size() - 2, result.getScannedProjects());
+        for (Long id : ids) {
+            assertEquals(ids.indexOf(id) >= 2, projectRepository.findById(id).orElseThrow().getOverdue(), "project " + id); // Not the ones before the checkpoint.
+        }
+        ScanCheckpoint checkpoint = scanCheckpointRepository.findById("overdue-projects").orElseThrow();
+        assertTrue(checkpoint.isCompleted());
+        assertNull(checkpoint.getLeaseOwner());
+    }
+
+    @Test
+    void scan_failsWhileAnotherInstanceHoldsTheLease() {
+        List<Long> ids = projectIds();
+        crashedRun(ids.get(1), LocalDateTime.now().plusMinutes(5));
+
+        assertThrows(IllegalStateException.class, () -> overdueScanService.scan());
+
+        ScanCheckpoint checkpoint = scanCheckpointRepository.findById("overdue-projects").orElseThrow();
+        assertEquals("other-instance", checkpoint.getLeaseOwner());
+        assertEquals(ids.get(1), checkpoint.getLastProcessedId());
+        assertFalse(projectRepository.findById(ids.get(2)).orElseThrow().getOverdue());
+    }
+
+    @Test
+    void scan_unflagsAProjectThatIsNoLongerOverdue_andWritesOnlyChangedRows() {
+        overdueScanService.scan();
+        Project project = projectRepository.findByProjectCode("SP00");
+        LocalDate endDate = project.getEndDate();
+        long unfinished = taskRepository.countByProjectIdAndTaskStatusIsNot(project.getId(), Status.COMPLETE);
+        assertTrue(unfinished > 0);
+        jdbcTemplate.update("UPDATE projects SET end_date = ? WHERE id = ?", LocalDate.now().plusDays(30), project.getId());
+        try {
+            OverdueScanResultDTO result = overdueScanService.scan();
+
+            assertFalse(projectRepository.findById(project.getId()).orElseThrow().getOverdue());
+            assertTrue(taskRepository.findAll().stream().filter(task -> task.getProject().getId().equals(project.getId())).noneMatch(Task::getOverdue));
+            assertEquals(projectIds().size() - 1, result.getOverdueProjects());
+            assertEquals(unfinished, result.getUpdatedTasks()); // Only its tasks changed; the tasks of the other projects stay flagged.
+            assertEquals(0, overdueScanService.scan().getUpdatedTasks()); // Nothing changed since.
+        } finally {
+            jdbcTemplate.update("UPDATE projects SET end_date = ? WHERE id = ?", endDate, project.getId());
+        }
+    }
+
+    private void crashedRun(Long lastProcessedId, LocalDateTime leaseExpiresAt) {
+        ScanCheckpoint checkpoint = new ScanCheckpoint();
+        checkpoint.setScanName("overdue-projects");
+        checkpoint.setScanDate(LocalDate.now());
+        checkpoint.setLastProcessedId(lastProcessedId);
+        checkpoint.setRunStartDateTime(LocalDateTime.now().minusMinutes(20));
+        checkpoint.setCompleted(false);
+        checkpoint.setLeaseOwner("other-instance");
+        checkpoint.setLeaseExpiresAt(leaseExpiresAt);
+        scanCheckpointRepository.save(checkpoint);
+    }
+
+    private List<Long> projectIds() {
+        return projectRepository.findAll().stream().map(Project::getId).sorted().collect(Collectors.toList());
+    }
+
+}
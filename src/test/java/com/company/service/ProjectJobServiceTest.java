@@ -0,0 +1,251 @@
+package com.company.service;
+
+import com.company.dto.ProjectJobDTO;
+import com.company.entity.ProjectJob;
+import com.company.enums.JobStatus;
+import com.company.enums.JobType;
+import com.company.enums.Status;
+import com.company.repository.ProjectJobRepository;
+import com.company.repository.ProjectRepository;
+import com.company.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+
+/*
+ * 🖍️...
+ * · chunk-size=1, so every task of a seeded project is committed in its own chunk.
+ * · threads=1 and queue-capacity=2: A recovery of more than 3 jobs can't queue all of them at once.
+ * · A job "of another instance" is a row whose lease has another owner.
+ * · TaskService is a spy, so a chunk can be made to throw. project-jobs.max-attempts=2.
+ */
+@SpringBootTest(properties = {"project-jobs.chunk-size=1", "project-jobs.threads=1", "project-jobs.queue-capacity=2",
+        "project-jobs.max-attempts=2"})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ProjectJobServiceTest {
+
+    @Autowired
+    private ProjectJobService projectJobService;
+    @Autowired
+    private ProjectJobRepository projectJobRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+    @SpyBean
+    private TaskService taskService;
+
+    @Test
+    void completeJob_completesEveryTaskInChunks() throws Exception {
+        long projectId = projectRepository.findByProjectCode("SP01").getId();
+        long unfinished = taskRepository.countByProjectIdAndTaskStatusIsNot(projectId, Status.COMPLETE);
+
+        ProjectJobDTO job = awaitFinished(projectJobService.submit(JobType.COMPLETE_PROJECT, "SP01").getId());
+
+        assertEquals(JobStatus.SUCCEEDED, job.getJobStatus());
+        assertEquals(unfinished, job.getTotalTasks());
+        assertEquals(unfinished, job.getProcessedTasks());
+        assertEquals(0, taskRepository.countByProjectIdAndTaskStatusIsNot(projectId, Status.COMPLETE));
+        assertEquals(Status.COMPLETE, projectRepository.findByProjectCode("SP01").getProjectStatus());
+    }
+
+    @Test
+    void deleteJob_deletesTheProjectAndItsTasks() throws Exception {
+        long projectId = projectRepository.findByProjectCode("SP02").getId();
+        long tasks = taskRepository.countByProjectId(projectId);
+
+        ProjectJobDTO job = awaitFinished(projectJobService.submit(JobType.DELETE_PROJECT, "SP02").getId());
+
+        assertEquals(JobStatus.SUCCEEDED, job.getJobStatus());
+        assertEquals(tasks, job.getProcessedTasks());
+        assertNull(projectRepository.findByProjectCode("SP02"));
+        assertEquals(0, taskRepository.countByProjectId(projectId));
+    }
+
+    @Test
+    void recoverInterruptedJobs_continuesAfterTheLastCommittedChunk() throws Exception {
+        long projectId = projectRepository.findByProjectCode("SP03").getId();
+        long firstTaskId = taskRepository.findIdsByProjectAfter(projectId, 0L, PageRequest.of(0, 1)).get(0);
+        ProjectJob interrupted = new ProjectJob(); // As if the application stopped after the first chunk.
+        interrupted.setJobType(JobType.DELETE_PROJECT);
+        interrupted.setJobStatus(JobStatus.RUNNING);
+        interrupted.setProjectCode("SP03");
+        interrupted.setProjectId(projectId);
+        interrupted.setTotalTasks(taskRepository.countByProjectId(projectId));
+        interrupted.setProcessedTasks(1);
+        interrupted.setLastProcessedTaskId(firstTaskId);
+        interrupted.setCreatedDateTime(LocalDateTime.now());
+        interrupted = projectJobRepository.save(interrupted);
+
+        projectJobService.recoverInterruptedJobs();
+        ProjectJobDTO job = awaitFinished(interrupted.getId());
+
+        assertEquals(JobStatus.SUCCEEDED, job.getJobStatus());
+        assertEquals(job.getTotalTasks(), job.getProcessedTasks());
+        assertTrue(taskRepository.existsById(firstTaskId)); // Before the checkpoint: not processed again.
+        assertEquals(1, taskRepository.countByProjectId(projectId));
+    }
+
+    @Test
+    void recoverInterruptedJobs_leavesTheJobsThatDontFitIntoTheQueueForTheNextRecovery() throws Exception {
+        long projectId = projectRepository.findByProjectCode("SP00").getId();
+        List<Long> jobIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ProjectJob queued = activeJob(JobType.COMPLETE_PROJECT, "SP00", projectId);
+            queued.setJobStatus(JobStatus.QUEUED);
+            queued.setActiveProjectId(null); // Several jobs of one project, only to fill the queue.
+            jobIds.add(projectJobRepository.save(queued).getId());
+        }
+
+        projectJobService.recoverInterruptedJobs(); // 1 running + 2 queued; the rest doesn't fit.
+        assertTrue(projectJobRepository.findAllById(jobIds).stream().noneMatch(job -> job.getJobStatus() == JobStatus.FAILED));
+
+        for (int i = 0; i < 100 && projectJobRepository.findAllById(jobIds).stream().anyMatch(job -> job.getJobStatus() != JobStatus.SUCCEEDED); i++) {
+            Thread.sleep(100);
+            projectJobService.recoverInterruptedJobs(); // What the scheduled recovery does.
+        }
+        assertTrue(projectJobRepository.findAllById(jobIds).stream().allMatch(job -> job.getJobStatus() == JobStatus.SUCCEEDED));
+        assertEquals(0, taskRepository.countByProjectIdAndTaskStatusIsNot(projectId, Status.COMPLETE));
+    }
+
+    @Test
+    void recoverInterruptedJobs_leavesAJobOfAnotherLiveInstance_untilItsLeaseExpired() throws Exception {
+        long projectId = projectRepository.findByProjectCode("SP03").getId();
+        long tasks = taskRepository.countByProjectId(projectId);
+        ProjectJob running = activeJob(JobType.DELETE_PROJECT, "SP03", projectId);
+        running.setJobStatus(JobStatus.RUNNING);
+        running.setTotalTasks(tasks);
+        running.setLeaseOwner("other-instance");
+        running.setLeaseExpiresAt(LocalDateTime.now().plusMinutes(5));
+        Long jobId = projectJobRepository.save(running).getId();
+
+        projectJobService.recoverInterruptedJobs();
+        Thread.sleep(300);
+        assertEquals(JobStatus.RUNNING, projectJobService.findById(jobId).getJobStatus());
+        assertEquals(tasks, taskRepository.countByProjectId(projectId));
+
+        running = projectJobRepository.findById(jobId).orElseThrow();
+        running.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1)); // The other instance died.
+        projectJobRepository.save(running);
+        projectJobService.recoverInterruptedJobs();
+
+        assertEquals(JobStatus.SUCCEEDED, awaitFinished(jobId).getJobStatus());
+        assertEquals(0, taskRepository.countByProjectId(projectId));
+        assertNull(projectJobRepository.findById(jobId).orElseThrow().getActiveProjectId());
+    }
+
+    @Test
+    void onlyOneActiveJobPerProject_evenWithoutTheCheckInSubmit() {
+        long projectId = projectRepository.findByProjectCode("SP01").getId();
+        ProjectJob active = activeJob(JobType.COMPLETE_PROJECT, "SP01", projectId);
+        active.setJobStatus(JobStatus.QUEUED);
+        active.setLeaseOwner("other-instance"); // Not run by this instance.
+        active.setLeaseExpiresAt(LocalDateTime.now().plusMinutes(5));
+        Long jobId = projectJobRepository.save(active).getId();
+
+        assertEquals(jobId, projectJobService.submit(JobType.DELETE_PROJECT, "SP01").getId());
+
+        ProjectJob second = activeJob(JobType.DELETE_PROJECT, "SP01", projectId); // What a concurrent submit would insert.
+        second.setJobStatus(JobStatus.QUEUED);
+        assertThrows(DataIntegrityViolationException.class, () -> projectJobRepository.save(second));
+    }
+
+    @Test
+    void failedChunk_isRetriedFromTheCheckpointByTheNextRecovery() throws Exception {
+        long projectId = projectRepository.findByProjectCode("SP02").getId();
+        long tasks = taskRepository.countByProjectId(projectId);
+        long firstTaskId = taskRepository.findIdsByProjectAfter(projectId, 0L, PageRequest.of(0, 1)).get(0);
+        long secondTaskId = taskRepository.findIdsByProjectAfter(projectId, firstTaskId, PageRequest.of(0, 1)).get(0);
+        doCallRealMethod().when(taskService).deleteTasks(anyList());
+        doThrow(new DataAccessResourceFailureException("connection reset")).doCallRealMethod().when(taskService).deleteTasks(List.of(secondTaskId)); // The second chunk, once.
+
+        Long jobId = projectJobService.submit(JobType.DELETE_PROJECT, "SP02").getId();
+        ProjectJob failedOnce = awaitReleased(jobId);
+
+        assertEquals(JobStatus.RUNNING, failedOnce.getJobStatus()); // Not FAILED: The project is deleted already, the rest of its tasks not.
+        assertEquals(1, failedOnce.getFailedAttempts());
+        assertEquals("connection reset", failedOnce.getErrorMessage());
+        assertEquals(1, failedOnce.getProcessedTasks());
+        assertEquals(firstTaskId, failedOnce.getLastProcessedTaskId());
+
+        projectJobService.recoverInterruptedJobs();
+        ProjectJobDTO job = awaitFinished(jobId);
+
+        assertEquals(JobStatus.SUCCEEDED, job.getJobStatus());
+        assertNull(job.getErrorMessage());
+        assertEquals(tasks, job.getProcessedTasks());
+        assertEquals(0, taskRepository.countByProjectId(projectId));
+    }
+
+    @Test
+    void failingJob_isFailedAfterMaxAttempts() throws Exception {
+        doThrow(new DataAccessResourceFailureException("connection reset")).when(taskService).deleteTasks(anyList());
+
+        Long jobId = projectJobService.submit(JobType.DELETE_PROJECT, "SP03").getId();
+        awaitReleased(jobId);
+        projectJobService.recoverInterruptedJobs();
+        ProjectJobDTO job = awaitFinished(jobId);
+
+        assertEquals(JobStatus.FAILED, job.getJobStatus());
+        assertEquals(2, job.getFailedAttempts());
+        assertEquals(0, job.getProcessedTasks());
+        assertNull(projectJobRepository.findById(jobId).orElseThrow().getActiveProjectId());
+    }
+
+    @Test
+    void submit_returnsNullForAnUnknownProject() {
+        assertNull(projectJobService.submit(JobType.COMPLETE_PROJECT, "NOPE"));
+    }
+
+    private static ProjectJob activeJob(JobType jobType, String projectCode, long projectId) {
+        ProjectJob job = new ProjectJob();
+        job.setJobType(jobType);
+        job.setProjectCode(projectCode);
+        job.setProjectId(projectId);
+        job.setActiveProjectId(projectId);
+        job.setCreatedDateTime(LocalDateTime.now());
+        return job;
+    }
+
+    private ProjectJob awaitReleased(Long jobId) throws InterruptedException { // Failed once, and left for the next recovery.
+        for (int i = 0; i < 100; i++) {
+            ProjectJob job = projectJobRepository.findById(jobId).orElseThrow();
+            if (job.getFailedAttempts() > 0 && job.getLeaseOwner() == null) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        fail("Job " + jobId + " never failed.");
+        return null;
+    }
+
+    private ProjectJobDTO awaitFinished(Long jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ProjectJobDTO job = projectJobService.findById(jobId);
+            if (job.getJobStatus() == JobStatus.SUCCEEDED || job.getJobStatus() == JobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        fail("Job " + jobId + " did not finish.");
+        return null;
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.company.service;
+
+import com.company.dto.ProjectDTO;
+import com.company.dto.ProjectFilterDTO;
+import com.company.dto.TaskAssignmentDTO;
+import com.company.dto.UserDTO;
+import com.company.entity.User;
+import com.company.repository.UserRepository;
+import com.company.support.PostgresTestDatabase;
+import com.company.support.QueryBudget;
+import com.company.support.QueryBudgetConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 🖍️...
+ * · Query budgets of every ProjectService method (Check TaskServiceQueryBudgetTest class).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryBudgetConfiguration.class)
+class ProjectServiceQueryBudgetTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "project_service_query_budget_test");
+    }
+
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void listMethods_doNotGrowWithTheNumberOfProjects() {
+        User harold = userRepository.findByUserName("harold@manager.com");
+        for (int round = 0; round < 2; round++) {
+            QueryBudget.assertAtMost(1, () -> projectService.listAllProjects());
+            QueryBudget.assertAtMost(3, () -> projectService.listAllProjectDetails()); // manager + projects + task counts of all projects
+            QueryBudget.assertAtMost(1, () -> projectService.readAllByAssignedManager(harold));
+            for (int i = 0; i < 5; i++) {
+                projectService.save(newProject("QB" + round + i, 2L));
+            }
+        }
+    }
+
+    @Test
+    void getByProjectCode() {
+        QueryBudget.assertAtMost(1, () -> projectService.getByProjectCode("SP00"));
+    }
+
+    @Test
+    void filter() {
+        ProjectFilterDTO filter = new ProjectFilterDTO();
+        filter.setAssignedManagerId(2L);
+        QueryBudget.assertAtMost(2, () -> projectService.filter(filter, PageRequest.of(0, 1))); // page + count
+    }
+
+    @Test
+    void save() {
+        QueryBudget.assertAtMost(1, () -> projectService.save(newProject("QBS", 3L)));
+    }
+
+    @Test
+    void update() {
+        ProjectDTO project = projectService.getByProjectCode("SP01");
+        project.setProjectDetail("Query budget update");
+        QueryBudget.assertAtMost(2, () -> projectService.update(project));
+    }
+
+    @Test
+    void complete_andDelete() {
+        projectService.save(newProject("QBC", 2L));
+        projectService.save(newProject("QBD", 2L));
+        taskService.assignAll("QBC", assignments(20));
+        taskService.assignAll("QBD", assignments(20));
+        QueryBudget.assertAtMost(9, 20, () -> projectService.complete("QBC")); // project + tasks + project update + one batch of 20 task updates + history + one rollup upsert per employee
+        QueryBudget.assertAtMost(9, 20, () -> projectService.delete("QBD"));
+    }
+
+    private ProjectDTO newProject(String code, Long managerId) {
+        UserDTO manager = new UserDTO();
+        manager.setId(managerId);
+        ProjectDTO project = new ProjectDTO();
+        project.setProjectCode(code);
+        project.setProjectName("Query budget " + code);
+        project.setStartDate(LocalDate.now());
+        project.setEndDate(LocalDate.now().plusDays(30));
+        project.setAssignedManager(manager);
+        return project;
+    }
+
+    private List<TaskAssignmentDTO> assignments(int count) {
+        List<TaskAssignmentDTO> assignments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TaskAssignmentDTO assignment = new TaskAssignmentDTO();
+            assignment.setAssignedEmployeeId(4L + i % 4);
+            assignment.setTaskSubject("Query budget " + i);
+            assignments.add(assignment);
+        }
+        return assignments;
+    }
+
+}
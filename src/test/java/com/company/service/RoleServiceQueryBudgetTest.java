@@ -0,0 +1,41 @@
+package com.company.service;
+
+import com.company.support.PostgresTestDatabase;
+import com.company.support.QueryBudget;
+import com.company.support.QueryBudgetConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/*
+ * 🖍️...
+ * · Query budgets of every RoleService method (Check TaskServiceQueryBudgetTest class).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryBudgetConfiguration.class)
+class RoleServiceQueryBudgetTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "role_service_query_budget_test");
+    }
+
+    @Autowired
+    private RoleService roleService;
+
+    @Test
+    void listAllRoles() {
+        QueryBudget.assertAtMost(1, () -> roleService.listAllRoles());
+    }
+
+    @Test
+    void findById() {
+        QueryBudget.assertAtMost(1, () -> roleService.findById(2L));
+    }
+
+}
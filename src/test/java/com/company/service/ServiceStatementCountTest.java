@@ -0,0 +1,123 @@
+package com.company.service;
+
+import com.company.dto.ProjectDTO;
+import com.company.dto.TaskDTO;
+import com.company.dto.UserDTO;
+import com.company.entity.Project;
+import com.company.enums.Status;
+import com.company.repository.ProjectRepository;
+import com.company.support.PostgresTestDatabase;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * 🖍️...
+ * · Checks how many JDBC statements save() and update() run, and that the referenced project / user rows are never written.
+ * · Embedded Postgres with the real TaskThroughputService: A task save() also writes its status history and its rollup.
+ * · The manager ids of the projects are cached first, like after the first change of each project (Check CacheNames.PROJECT_MANAGERS).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceStatementCountTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "service_statement_count_test");
+    }
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository.findAll().forEach(project -> projectRepository.findManagerIdById(project.getId()));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void taskSave_runsOnlyTheInserts() {
+        taskService.save(newTask("Statement count", 1L, 4L));
+
+        assertEquals(3, statistics.getPrepareStatementCount(), "task + history + rollup upsert");
+    }
+
+    @Test
+    void taskUpdate_doesNotSelectOrWriteReferencedRows() {
+        TaskDTO task = taskService.findById(1L);
+        task.getProject().setProjectName("Changed by a task update");
+        task.getAssignedEmployee().setFirstName("Changed by a task update");
+        statistics.clear();
+
+        taskService.update(task);
+
+        assertEquals(2, statistics.getPrepareStatementCount(), "findById + update (merge reuses the loaded task in the same transaction)");
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals("Spring Core", projectRepository.findById(1L).map(Project::getProjectName).orElseThrow());
+    }
+
+    @Test
+    void projectSave_runsOnlyTheInsert() {
+        ProjectDTO project = new ProjectDTO();
+        project.setProjectCode("SC01");
+        project.setProjectName("Statement count");
+        project.setStartDate(LocalDate.now());
+        project.setEndDate(LocalDate.now().plusDays(30));
+        project.setAssignedManager(userWithId(2L));
+
+        projectService.save(project);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void projectUpdate_doesNotSelectOrWriteTheManager() {
+        ProjectDTO project = projectService.getByProjectCode("SP02");
+        project.setProjectDetail("Updated detail");
+        project.getAssignedManager().setFirstName("Changed by a project update");
+        statistics.clear();
+
+        projectService.update(project);
+
+        assertEquals(2, statistics.getPrepareStatementCount(), "findByProjectCode + update (merge reuses the loaded project in the same transaction)");
+        assertEquals(1, statistics.getEntityUpdateCount());
+    }
+
+    private TaskDTO newTask(String subject, Long projectId, Long employeeId) {
+        ProjectDTO project = new ProjectDTO();
+        project.setId(projectId);
+        TaskDTO task = new TaskDTO();
+        task.setTaskSubject(subject);
+        task.setTaskDetail(subject);
+        task.setTaskStatus(Status.OPEN);
+        task.setProject(project);
+        task.setAssignedEmployee(userWithId(employeeId));
+        return task;
+    }
+
+    private UserDTO userWithId(Long id) {
+        UserDTO user = new UserDTO();
+        user.setId(id);
+        return user;
+    }
+
+}
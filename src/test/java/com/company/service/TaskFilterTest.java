@@ -0,0 +1,77 @@
+package com.company.service;
+
+import com.company.dto.ProjectDTO;
+import com.company.dto.ProjectFilterDTO;
+import com.company.dto.TaskDTO;
+import com.company.dto.TaskFilterDTO;
+import com.company.enums.Status;
+import com.company.exception.UnindexedFilterException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · large-table-rows=1, so the seeded tables count as large and the guard is active.
+ */
+@SpringBootTest(properties = "filter-guard.large-table-rows=1")
+@ActiveProfiles("test")
+class TaskFilterTest {
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectService projectService;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    @Test
+    void taskFilter_combinesEveryGivenField() {
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setProjectCode("SP00");
+        filter.setTaskStatus(List.of(Status.OPEN, Status.IN_PROGRESS));
+        filter.setAssignedFrom(LocalDate.of(2022, 1, 1));
+        filter.setAssignedTo(LocalDate.of(2022, 1, 31));
+
+        Page<TaskDTO> page = taskService.filter(filter, PageRequest.of(0, 2, Sort.by("id")));
+
+        assertEquals(3, page.getTotalElements()); // SP00 has 3 unfinished tasks in data.sql
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.getContent().stream().allMatch(task -> "SP00".equals(task.getProject().getProjectCode()) && task.getTaskStatus() != Status.COMPLETE));
+        assertTrue(page.getContent().get(0).getId() < page.getContent().get(1).getId());
+    }
+
+    @Test
+    void taskFilter_withoutProjectOrEmployeeIsRejected() {
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setTaskStatus(List.of(Status.OPEN));
+        assertThrows(UnindexedFilterException.class, () -> taskService.filter(filter, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void projectFilter_byManagerAndStatus() {
+        ProjectFilterDTO filter = new ProjectFilterDTO();
+        filter.setAssignedManagerId(3L);
+        filter.setProjectStatus(List.of(Status.OPEN));
+
+        Page<ProjectDTO> page = projectService.filter(filter, PageRequest.of(0, 20));
+
+        assertEquals(List.of("SP03"), page.map(ProjectDTO::getProjectCode).getContent());
+    }
+
+    @Test
+    void projectFilter_byStatusOnlyIsRejected() {
+        ProjectFilterDTO filter = new ProjectFilterDTO();
+        filter.setProjectStatus(List.of(Status.OPEN));
+        assertThrows(UnindexedFilterException.class, () -> projectService.filter(filter, PageRequest.of(0, 20)));
+    }
+
+}
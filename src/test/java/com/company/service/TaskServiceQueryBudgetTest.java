@@ -0,0 +1,171 @@
+package com.company.service;
+
+import com.company.dto.ProjectDTO;
+import com.company.dto.TaskAssignmentDTO;
+import com.company.dto.TaskDTO;
+import com.company.dto.TaskFilterDTO;
+import com.company.dto.UserDTO;
+import com.company.entity.User;
+import com.company.enums.Status;
+import com.company.repository.ProjectRepository;
+import com.company.repository.TaskRepository;
+import com.company.repository.UserRepository;
+import com.company.support.PostgresTestDatabase;
+import com.company.support.QueryBudget;
+import com.company.support.QueryBudgetConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/*
+ * 🖍️...
+ * · Query budgets of every TaskService method. List methods are checked twice, the second time with more rows, so their
+ *   budget holds for any N.
+ * · Embedded Postgres with the real TaskThroughputService, so the status history and rollup statements of every write are
+ *   part of the budgets. The rollups need INSERT ... ON CONFLICT, which H2 doesn't have.
+ * · The manager ids of the projects are cached before every test, like after the first change of each project
+ *   (Check CacheNames.PROJECT_MANAGERS). Otherwise a budget would depend on which test changed the project first.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryBudgetConfiguration.class)
+class TaskServiceQueryBudgetTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "task_service_query_budget_test");
+    }
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void cacheProjectManagers() {
+        projectRepository.findAll().forEach(project -> projectRepository.findManagerIdById(project.getId()));
+    }
+
+    @Test
+    void listMethods_doNotGrowWithTheNumberOfTasks() {
+        User john = userRepository.findByUserName("john@employee.com");
+        for (int round = 0; round < 2; round++) {
+            assertFalse(QueryBudget.assertAtMost(1, () -> taskService.listAllTasks()).isEmpty());
+            QueryBudget.assertAtMost(2, () -> taskService.listAllTasksByStatus(Status.OPEN));
+            QueryBudget.assertAtMost(2, () -> taskService.listAllTasksByStatusIsNot(Status.COMPLETE));
+            QueryBudget.assertAtMost(1, () -> taskService.readAllByAssignedEmployee(john));
+            QueryBudget.assertAtMost(2, () -> taskService.totalNonCompletedTask("SP01")); // project id + count by project_id
+            QueryBudget.assertAtMost(2, () -> taskService.totalCompletedTask("SP01"));
+            taskService.assignAll("SP01", assignments(40, 4L, 5L, 6L, 7L));
+        }
+    }
+
+    @Test
+    void findById() {
+        QueryBudget.assertAtMost(2, () -> taskService.findById(1L)); // Loading by id applies the entity graph one level deep, so one role is read separately.
+    }
+
+    @Test
+    void save() {
+        QueryBudget.assertAtMost(3, () -> taskService.save(newTask("Query budget save"))); // task + history + rollup upsert
+    }
+
+    @Test
+    void update() {
+        TaskDTO task = taskService.findById(2L);
+        task.setTaskDetail("Query budget update");
+        QueryBudget.assertAtMost(2, () -> taskService.update(task));
+    }
+
+    @Test
+    void updateStatus() {
+        TaskDTO task = taskService.findById(4L);
+        task.setTaskStatus(Status.IN_PROGRESS);
+        QueryBudget.assertAtMost(3, () -> taskService.updateStatus(task)); // find + history + update (OPEN -> IN_PROGRESS is not in the rollups)
+    }
+
+    @Test
+    void delete() {
+        taskService.save(newTask("Query budget delete"));
+        Long id = taskService.listAllTasks().stream().filter(t -> "Query budget delete".equals(t.getTaskSubject())).findFirst().orElseThrow().getId();
+        QueryBudget.assertAtMost(4, () -> taskService.delete(id)); // find + its history + update + one rollup upsert per (day, employee) of the history
+    }
+
+    @Test
+    void filter() {
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setAssignedEmployeeId(4L);
+        filter.setTaskStatus(List.of(Status.OPEN, Status.IN_PROGRESS));
+        QueryBudget.assertAtMost(2, () -> taskService.filter(filter, PageRequest.of(0, 2, Sort.by("assignedDate")))); // page + count
+    }
+
+    @Test
+    void assignAll() {
+        assertEquals(100, QueryBudget.assertAtMost(6, 100, () -> taskService.assignAll("SP03", assignments(100, 4L, 5L)))); // project + employees + one batch of 100 inserts + history + one rollup upsert per employee
+    }
+
+    @Test
+    void completeByProject_andDeleteByProject() {
+        ProjectDTO project = projectService.getByProjectCode("SP03");
+        taskService.assignAll("SP03", assignments(30, 6L, 7L));
+        int unfinished = (int) taskRepository.countByProjectIdAndTaskStatusIsNot(project.getId(), Status.COMPLETE); // Only the changed tasks are updated.
+        QueryBudget.assertAtMost(5, unfinished, () -> taskService.completeByProject(project)); // tasks + one batch of updates + history + one rollup upsert per employee
+        int all = (int) taskRepository.countByProjectId(project.getId());
+        QueryBudget.assertAtMost(5, all, () -> taskService.deleteByProject(project)); // tasks + one batch of updates + their history + one rollup upsert per (day, employee)
+    }
+
+    @Test
+    void completeTasks_andDeleteTasks_oneProjectJobChunk() {
+        ProjectDTO project = projectService.getByProjectCode("SP02");
+        for (int chunkSize : new int[]{20, 60}) { // The budget of a chunk doesn't grow with its size.
+            taskService.assignAll("SP02", assignments(chunkSize, 6L, 7L));
+            List<Long> chunk = taskRepository.findIdsByProjectAndTaskStatusIsNotAfter(project.getId(), Status.COMPLETE, 0L, PageRequest.of(0, chunkSize));
+            QueryBudget.assertAtMost(8, chunkSize, () -> taskService.completeTasks(chunk)); // tasks + one batch of updates + one history statement per previous status (OPEN, IN_PROGRESS) + one rollup upsert per employee (4 to 7)
+            QueryBudget.assertAtMost(7, chunkSize, () -> taskService.deleteTasks(chunk)); // tasks + one batch of updates + their history + one rollup upsert per (day, employee) of it, all written today
+        }
+    }
+
+    private List<TaskAssignmentDTO> assignments(int count, Long... employeeIds) {
+        List<TaskAssignmentDTO> assignments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TaskAssignmentDTO assignment = new TaskAssignmentDTO();
+            assignment.setAssignedEmployeeId(employeeIds[i % employeeIds.length]);
+            assignment.setTaskSubject("Query budget " + i);
+            assignment.setTaskDetail("Query budget " + i);
+            assignments.add(assignment);
+        }
+        return assignments;
+    }
+
+    private TaskDTO newTask(String subject) {
+        ProjectDTO project = new ProjectDTO();
+        project.setId(2L);
+        UserDTO employee = new UserDTO();
+        employee.setId(5L);
+        TaskDTO task = new TaskDTO();
+        task.setTaskSubject(subject);
+        task.setTaskDetail(subject);
+        task.setProject(project);
+        task.setAssignedEmployee(employee);
+        return task;
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.company.service;
+
+import com.company.dto.ProjectDTO;
+import com.company.dto.TaskDTO;
+import com.company.dto.TaskThroughputDTO;
+import com.company.dto.UserDTO;
+import com.company.entity.TaskDailyRollup;
+import com.company.entity.TaskStatusHistory;
+import com.company.enums.Status;
+import com.company.repository.TaskDailyRollupRepository;
+import com.company.repository.TaskStatusHistoryRepository;
+import com.company.support.PostgresTestDatabase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · The real TaskThroughputService on embedded Postgres: H2 can't run the ON CONFLICT ... DO UPDATE upsert of
+ *   TaskDailyRollupRepository.increment().
+ * · Every test runs in a rolled back transaction, and compares today's rollup row before and after its own changes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskThroughputServiceTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "task_throughput_test");
+    }
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskThroughputService taskThroughputService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private TaskDailyRollupRepository taskDailyRollupRepository;
+    @Autowired
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void increment_addsToTheSameRow() {
+        LocalDate day = LocalDate.of(2000, 1, 1);
+        taskDailyRollupRepository.increment(day, 1L, 3L, 2, 1, 0, 5);
+        taskDailyRollupRepository.increment(day, 1L, 3L, 1, 1, 1, 3);
+
+        List<TaskDailyRollup> rows = taskDailyRollupRepository.findAllByProjectIdAndRollupDateBetween(1L, day, day);
+        assertEquals(1, rows.size());
+        assertEquals(3, rows.get(0).getCreatedCount());
+        assertEquals(2, rows.get(0).getCompletedCount());
+        assertEquals(1, rows.get(0).getReopenedCount());
+        assertEquals(8, rows.get(0).getCycleTimeDays());
+    }
+
+    @Test
+    void createAndComplete_areCountedInTodaysRow() {
+        ProjectDTO project = projectService.getByProjectCode("SP00");
+        UserDTO employee = userService.findByUserName("john@employee.com");
+        long[] before = today(project, employee);
+
+        TaskDTO task = createTask(project, employee);
+        task.setTaskStatus(Status.COMPLETE);
+        taskService.updateStatus(task);
+
+        long[] after = today(project, employee);
+        assertEquals(before[0] + 1, after[0], "created");
+        assertEquals(before[1] + 1, after[1], "completed");
+    }
+
+    @Test
+    void listDailyThroughput_returnsEveryDayOfTheRange() {
+        ProjectDTO project = projectService.getByProjectCode("SP01");
+        UserDTO employee = userService.findByUserName("grace@employee.com");
+        TaskDTO task = createTask(project, employee);
+        task.setTaskStatus(Status.COMPLETE);
+        taskService.updateStatus(task);
+
+        List<TaskThroughputDTO> series = taskThroughputService.listDailyThroughputByEmployee("grace@employee.com", today.minusDays(2), today);
+
+        assertEquals(List.of(today.minusDays(2), today.minusDays(1), today), series.stream().map(TaskThroughputDTO::getDate).toList());
+        assertEquals(0, series.get(0).getCreatedCount());
+        assertEquals(0, series.get(1).getCompletedCount());
+        assertTrue(series.get(2).getCompletedCount() >= 1);
+        assertEquals(0.0, series.get(2).getAverageCycleTimeDays()); // Assigned and completed today.
+    }
+
+    @Test
+    void update_movesTheCountsToTheNewEmployee() {
+        ProjectDTO project = projectService.getByProjectCode("SP02");
+        UserDTO from = userService.findByUserName("lionel@employee.com");
+        UserDTO to = userService.findByUserName("sameen@employee.com");
+        long[] fromBefore = today(project, from);
+        long[] toBefore = today(project, to);
+
+        TaskDTO task = createTask(project, from);
+        task.setTaskStatus(Status.COMPLETE);
+        taskService.updateStatus(task);
+        task = taskService.findById(task.getId());
+        task.setAssignedEmployee(to);
+        taskService.update(task);
+
+        assertArrayEquals(fromBefore, today(project, from));
+        long[] toAfter = today(project, to);
+        assertEquals(toBefore[0] + 1, toAfter[0], "created");
+        assertEquals(toBefore[1] + 1, toAfter[1], "completed");
+        assertTrue(taskStatusHistoryRepository.findAllByTaskIdOrderByTransitionDateTime(task.getId()).stream()
+                .allMatch(history -> history.getEmployeeId().equals(to.getId())));
+    }
+
+    @Test
+    void delete_removesTheCountsOfTheTask() {
+        ProjectDTO project = projectService.getByProjectCode("SP03");
+        UserDTO employee = userService.findByUserName("john@employee.com");
+        long[] before = today(project, employee);
+
+        TaskDTO task = createTask(project, employee);
+        task.setTaskStatus(Status.COMPLETE);
+        taskService.updateStatus(task);
+        taskService.delete(task.getId());
+
+        assertArrayEquals(before, today(project, employee));
+    }
+
+    @Test
+    void completeByProject_andDeleteByProject_countLikeTheSingleTaskPaths() {
+        ProjectDTO project = newProject("TP01");
+        UserDTO john = userService.findByUserName("john@employee.com");
+        UserDTO lionel = userService.findByUserName("lionel@employee.com");
+        TaskDTO open = createTask(project, john);
+        TaskDTO inProgress = createTask(project, lionel);
+        inProgress.setTaskStatus(Status.IN_PROGRESS);
+        taskService.updateStatus(inProgress);
+        createTask(project, lionel);
+
+        taskService.completeByProject(project);
+
+        assertArrayEquals(new long[]{1, 1, 0, 0}, today(project, john));
+        assertArrayEquals(new long[]{2, 2, 0, 0}, today(project, lionel));
+        assertEquals(List.of(Status.OPEN, Status.COMPLETE), transitionsOf(open.getId()));
+        assertEquals(List.of(Status.OPEN, Status.IN_PROGRESS, Status.COMPLETE), transitionsOf(inProgress.getId()));
+
+        taskService.deleteByProject(project);
+
+        assertArrayEquals(new long[4], today(project, john));
+        assertArrayEquals(new long[4], today(project, lionel));
+    }
+
+    private TaskDTO createTask(ProjectDTO project, UserDTO employee) {
+        TaskDTO task = new TaskDTO();
+        task.setProject(project);
+        task.setAssignedEmployee(employee);
+        task.setTaskSubject(UUID.randomUUID().toString());
+        task.setTaskDetail("throughput");
+        taskService.save(task);
+        return taskService.listAllTasks().stream().filter(dto -> dto.getTaskSubject().equals(task.getTaskSubject())).findFirst().orElseThrow();
+    }
+
+    private ProjectDTO newProject(String code) {
+        ProjectDTO project = new ProjectDTO();
+        project.setProjectCode(code);
+        project.setProjectName("Throughput " + code);
+        project.setStartDate(today);
+        project.setEndDate(today.plusDays(30));
+        project.setAssignedManager(userService.findByUserName("harold@manager.com"));
+        projectService.save(project);
+        return projectService.getByProjectCode(code);
+    }
+
+    private List<Status> transitionsOf(Long taskId) { // The toStatus of every history row, in order.
+        return taskStatusHistoryRepository.findAllByTaskIdOrderByTransitionDateTime(taskId).stream().map(TaskStatusHistory::getToStatus).collect(Collectors.toList());
+    }
+
+    private long[] today(ProjectDTO project, UserDTO employee) { // {created, completed, reopened, cycleTimeDays} of today's row.
+        // JDBC, not the repository: The upserts are native statements, so rollup entities loaded earlier in this transaction are stale.
+        return jdbcTemplate.query("SELECT created_count, completed_count, reopened_count, cycle_time_days FROM task_daily_rollups " +
+                        "WHERE project_id = ? AND employee_id = ? AND rollup_date = ?",
+                (resultSet, rowNum) -> new long[]{resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3), resultSet.getLong(4)},
+                project.getId(), employee.getId(), today).stream().findFirst().orElse(new long[4]);
+    }
+
+}
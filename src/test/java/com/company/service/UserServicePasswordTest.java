@@ -0,0 +1,145 @@
+package com.company.service;
+
+import com.company.dto.RoleDTO;
+import com.company.dto.UserDTO;
+import com.company.entity.User;
+import com.company.enums.Gender;
+import com.company.repository.UserRepository;
+import com.company.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/*
+ * 🖍️...
+ * · The test profile hashes with cost 4, and data.sql seeds cost 10 hashes of "Abc1", so a seeded login is a cost change.
+ * · PasswordHasher is a spy that records whether a transaction (and so a pooled connection) was active during each hash or match.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServicePasswordTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @SpyBean
+    private PasswordHasher passwordHasher;
+    @MockBean
+    private TaskThroughputService taskThroughputService;
+
+    @Test
+    void save_storesABcryptHash() {
+        userService.save(newUser("hash@employee.com", "Abc1"));
+        String stored = userRepository.findByUserName("hash@employee.com").getPassWord();
+        assertTrue(stored.startsWith("$2a$04$"));
+        assertTrue(userService.authenticate("hash@employee.com", "Abc1"));
+        assertFalse(userService.authenticate("hash@employee.com", "wrong"));
+    }
+
+    @Test
+    void update_keepsTheHashWhenNoNewPasswordIsSent() {
+        userService.save(newUser("keep@employee.com", "Abc1"));
+        String stored = userRepository.findByUserName("keep@employee.com").getPassWord();
+
+        UserDTO user = userService.findByUserName("keep@employee.com"); // passWord is the current hash
+        userService.update(user);
+        assertEquals(stored, userRepository.findByUserName("keep@employee.com").getPassWord());
+
+        user.setPassWord("");
+        userService.update(user);
+        assertEquals(stored, userRepository.findByUserName("keep@employee.com").getPassWord());
+
+        user.setPassWord("Xyz2");
+        userService.update(user);
+        assertTrue(userService.authenticate("keep@employee.com", "Xyz2"));
+    }
+
+    @Test
+    void authenticate_rehashesWhenTheCostChanged() {
+        User seeded = userRepository.findByUserName("sameen@employee.com");
+        assertTrue(seeded.getPassWord().startsWith("$2a$10$"));
+
+        assertTrue(userService.authenticate("sameen@employee.com", "Abc1"));
+
+        String rehashed = userRepository.findByUserName("sameen@employee.com").getPassWord();
+        assertTrue(rehashed.startsWith("$2a$04$"));
+        assertTrue(userService.authenticate("sameen@employee.com", "Abc1"));
+    }
+
+    @Test
+    void authenticate_rejectsUnknownUsers() {
+        assertFalse(userService.authenticate("nobody@employee.com", "Abc1"));
+    }
+
+    @Test
+    void authenticate_matchesADummyHashForUnknownAndDisabledUsers() {
+        userService.save(newUser("disabled@employee.com", "Abc1"));
+        User disabled = userRepository.findByUserName("disabled@employee.com");
+        disabled.setEnabled(false);
+        userRepository.save(disabled);
+
+        long matchesBefore = matchCount();
+        assertFalse(userService.authenticate("nobody@employee.com", "Abc1"));
+        assertFalse(userService.authenticate("disabled@employee.com", "Abc1")); // The right password of a disabled user.
+        assertEquals(matchesBefore + 2, matchCount()); // As slow as a wrong password of a known user.
+    }
+
+    @Test
+    void hashingAndMatching_runOutsideOfTransactions() {
+        List<Boolean> inTransaction = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).hash(anyString());
+        doAnswer(invocation -> {
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).matches(any(), any());
+
+        userService.save(newUser("outside@employee.com", "Abc1"));
+        UserDTO user = userService.findByUserName("outside@employee.com");
+        user.setPassWord("Xyz2");
+        userService.update(user);
+        assertTrue(userService.authenticate("outside@employee.com", "Xyz2"));
+        assertTrue(userService.authenticate("lionel@employee.com", "Abc1")); // match + rehash of a seeded cost 10 hash
+        assertFalse(userService.authenticate("nobody@employee.com", "Abc1"));
+
+        assertEquals(6, inTransaction.size());
+        assertFalse(inTransaction.contains(true));
+        assertTrue(userRepository.findByUserName("lionel@employee.com").getPassWord().startsWith("$2a$04$"));
+    }
+
+    private long matchCount() {
+        return meterRegistry.get("password.hashing.duration").tag("operation", "match").timer().count();
+    }
+
+    private UserDTO newUser(String userName, String passWord) {
+        RoleDTO role = new RoleDTO();
+        role.setId(3L);
+        role.setDescription("Employee");
+        UserDTO user = new UserDTO();
+        user.setFirstName("Password");
+        user.setLastName("Hashing");
+        user.setUserName(userName);
+        user.setPassWord(passWord);
+        user.setPhone("0000000000");
+        user.setGender(Gender.FEMALE);
+        user.setRole(role);
+        return user;
+    }
+
+}
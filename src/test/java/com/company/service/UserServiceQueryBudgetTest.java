@@ -0,0 +1,98 @@
+package com.company.service;
+
+import com.company.dto.RoleDTO;
+import com.company.dto.UserDTO;
+import com.company.enums.Gender;
+import com.company.support.PostgresTestDatabase;
+import com.company.support.QueryBudget;
+import com.company.support.QueryBudgetConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/*
+ * 🖍️...
+ * · Query budgets of every UserService method (Check TaskServiceQueryBudgetTest class).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryBudgetConfiguration.class)
+class UserServiceQueryBudgetTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "user_service_query_budget_test");
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void listMethods_doNotGrowWithTheNumberOfUsers() {
+        for (int round = 0; round < 2; round++) {
+            QueryBudget.assertAtMost(1, () -> userService.listAllUsers());
+            QueryBudget.assertAtMost(1, () -> userService.listAllByRole("employee"));
+            for (int i = 0; i < 5; i++) {
+                userService.save(newUser("list" + round + i + "@employee.com"));
+            }
+        }
+    }
+
+    @Test
+    void findByUserName() {
+        QueryBudget.assertAtMost(1, () -> userService.findByUserName("harold@manager.com"));
+    }
+
+    @Test
+    void save() {
+        QueryBudget.assertAtMost(1, () -> userService.save(newUser("save@employee.com")));
+    }
+
+    @Test
+    void authenticate() {
+        userService.save(newUser("authenticate@employee.com"));
+        QueryBudget.assertAtMost(1, () -> userService.authenticate("authenticate@employee.com", "Abc1")); // + one update when the hash is rehashed
+        QueryBudget.assertAtMost(1, () -> userService.authenticate("authenticate@employee.com", "wrong"));
+        QueryBudget.assertAtMost(1, () -> userService.authenticate("nobody@employee.com", "Abc1"));
+    }
+
+    @Test
+    void update() {
+        userService.save(newUser("update@employee.com"));
+        UserDTO user = userService.findByUserName("update@employee.com");
+        user.setPhone("1112223333");
+        QueryBudget.assertAtMost(3, () -> userService.update(user)); // find + update + find the updated user
+    }
+
+    @Test
+    void delete() {
+        userService.save(newUser("delete@employee.com"));
+        QueryBudget.assertAtMost(3, () -> userService.delete("delete@employee.com")); // user + tasks of the employee + update
+    }
+
+    @Test
+    void deleteByUserName() {
+        userService.save(newUser("hard-delete@employee.com"));
+        QueryBudget.assertAtMost(3, () -> userService.deleteByUserName("hard-delete@employee.com")); // user + role + delete
+    }
+
+    private UserDTO newUser(String userName) {
+        RoleDTO role = new RoleDTO();
+        role.setId(3L);
+        role.setDescription("Employee");
+        UserDTO user = new UserDTO();
+        user.setFirstName("Query");
+        user.setLastName("Budget");
+        user.setUserName(userName);
+        user.setPassWord("Abc1");
+        user.setPhone("0000000000");
+        user.setGender(Gender.FEMALE);
+        user.setRole(role);
+        return user;
+    }
+
+}
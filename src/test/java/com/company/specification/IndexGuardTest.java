@@ -0,0 +1,58 @@
+package com.company.specification;
+
+import com.company.exception.UnindexedFilterException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexGuardTest {
+
+    private final AtomicLong rows = new AtomicLong(1_000_000);
+    private final AtomicInteger counts = new AtomicInteger();
+    private final IndexGuard guard = new IndexGuard("tasks", List.of("project", "assignedEmployee"), Set.of("id", "assignedDate"),
+            10_000, 200, 60_000, () -> {
+                counts.incrementAndGet();
+                return rows.get();
+            });
+
+    @Test
+    void allowsAFilterWithTheLeadingColumnOfAnIndex() {
+        assertDoesNotThrow(() -> guard.check(Set.of("project"), Pageable.unpaged()));
+        assertDoesNotThrow(() -> guard.check(Set.of("assignedEmployee"), PageRequest.of(0, 200, Sort.by("assignedDate"))));
+        assertEquals(0, counts.get()); // An indexed filter doesn't need the row count.
+    }
+
+    @Test
+    void rejectsAnUnindexedFilterOnALargeTable() {
+        UnindexedFilterException exception = assertThrows(UnindexedFilterException.class, () -> guard.check(Set.of(), PageRequest.of(0, 20)));
+        assertTrue(exception.getMessage().contains("[project, assignedEmployee]"));
+    }
+
+    @Test
+    void allowsAnyFilterOnASmallTable() {
+        rows.set(9_999);
+        assertDoesNotThrow(() -> guard.check(Set.of(), PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void cachesTheRowCount() {
+        rows.set(10);
+        guard.check(Set.of(), PageRequest.of(0, 20));
+        rows.set(1_000_000);
+        guard.check(Set.of(), PageRequest.of(0, 20)); // Still the cached 10 rows.
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void rejectsUnknownSortPropertiesAndLargePages() {
+        assertThrows(UnindexedFilterException.class, () -> guard.check(Set.of("project"), PageRequest.of(0, 20, Sort.by("taskDetail"))));
+        assertThrows(UnindexedFilterException.class, () -> guard.check(Set.of("project"), PageRequest.of(0, 201)));
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.company.specification;
+
+import com.company.support.PostgresTestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 🖍️...
+ * · Embedded Postgres without Spring: ANALYZE is what fills pg_class.reltuples, so the tests run it themselves.
+ * · The exact counter returns -1, so a test sees which of the two answered.
+ */
+class TableRowEstimateTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(PostgresTestDatabase.server().getPostgresDatabase());
+    private final AtomicInteger exactCounts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS row_estimate_plain, row_estimate_partitioned");
+        jdbcTemplate.execute("CREATE TABLE row_estimate_plain (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE row_estimate_partitioned (id BIGINT, project_id BIGINT) PARTITION BY HASH (project_id)");
+        jdbcTemplate.execute("CREATE TABLE row_estimate_partitioned_p0 PARTITION OF row_estimate_partitioned FOR VALUES WITH (MODULUS 2, REMAINDER 0)");
+        jdbcTemplate.execute("CREATE TABLE row_estimate_partitioned_p1 PARTITION OF row_estimate_partitioned FOR VALUES WITH (MODULUS 2, REMAINDER 1)");
+        jdbcTemplate.update("INSERT INTO row_estimate_plain SELECT g FROM generate_series(1, 20000) g");
+        jdbcTemplate.update("INSERT INTO row_estimate_partitioned SELECT g, g % 100 FROM generate_series(1, 30000) g");
+    }
+
+    @Test
+    void neverAnalyzedTable_fallsBackToTheExactCount() {
+        assertEquals(-1, estimate("row_estimate_plain"));
+        assertEquals(1, exactCounts.get());
+    }
+
+    @Test
+    void analyzedTable_isEstimatedFromTheStatistics() {
+        jdbcTemplate.execute("ANALYZE row_estimate_plain");
+        assertEquals(20000, estimate("row_estimate_plain"), 2000);
+        assertEquals(0, exactCounts.get());
+    }
+
+    @Test
+    void partitionedTable_sumsItsPartitions_untilItHasAnEstimateOfItsOwn() {
+        jdbcTemplate.execute("ANALYZE row_estimate_partitioned_p0"); // What autovacuum does: only the partitions.
+        jdbcTemplate.execute("ANALYZE row_estimate_partitioned_p1");
+        assertEquals(30000, estimate("row_estimate_partitioned"), 3000);
+
+        jdbcTemplate.execute("ANALYZE row_estimate_partitioned"); // The parent's own estimate counts every row once.
+        assertEquals(30000, estimate("row_estimate_partitioned"), 3000);
+        assertEquals(0, exactCounts.get());
+    }
+
+    private long estimate(String table) {
+        return new TableRowEstimate(jdbcTemplate, table, () -> {
+            exactCounts.incrementAndGet();
+            return -1;
+        }).getAsLong();
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.company.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/*
+ * 🖍️...
+ * · One embedded Postgres server (zonky) per test JVM, for the tests that need Postgres itself instead of H2
+ *   (Ex: INSERT ... ON CONFLICT DO UPDATE, LISTEN/NOTIFY).
+ * · Every test class gets its own database, so the cached Spring contexts never share tables.
+ * · Usage:
+ *   @DynamicPropertySource
+ *   static void postgres(DynamicPropertyRegistry registry) { PostgresTestDatabase.register(registry, "my_test"); }
+ */
+public final class PostgresTestDatabase {
+
+    private static EmbeddedPostgres server;
+
+    private PostgresTestDatabase() {
+    }
+
+    public static synchronized EmbeddedPostgres server() {
+        if (server == null) {
+            try {
+                server = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    server.close();
+                } catch (IOException ignored) {
+                    // The JVM is exiting anyway.
+                }
+            }));
+        }
+        return server;
+    }
+
+    public static void register(DynamicPropertyRegistry registry, String database) {
+        createDatabase(database);
+        registry.add("spring.datasource.url", () -> server().getJdbcUrl("postgres", database) + "&reWriteBatchedInserts=true"); // Like application.properties.
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    private static void createDatabase(String database) {
+        try (Connection connection = server().getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + database);
+            statement.execute("CREATE DATABASE " + database);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not create the test database " + database, e);
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.company.support;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/*
+ * 🖍️...
+ * · A query budget is the maximum number of SQL statements a service call may execute.
+ *   Ex: QueryBudget.assertAtMost(2, () -> taskService.listAllTasksByStatus(Status.OPEN));
+ * · A JDBC batch is one statement (one round trip), but the database still executes every row of it, so the budget also
+ *   states the batched rows. Ex: QueryBudget.assertAtMost(4, 30, () -> taskService.completeByProject(project)) allows
+ *   4 statements, of which the batches carry 30 rows in total. Without it, no batch of more than one row is allowed.
+ *   A batch of one row (Hibernate flushes every update as a batch) is just a statement.
+ * · When the budget is exceeded, the test fails and lists every statement that was executed, so an N+1 is easy to spot.
+ * · To check "for any N", call it again after adding more rows; the budget of a list call must not grow with the rows.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static <T> T assertAtMost(int maxStatements, int maxBatchedRows, Supplier<T> call) {
+        QueryCounter.start();
+        T result;
+        List<QueryCounter.Execution> executions;
+        try {
+            result = call.get();
+        } finally {
+            executions = QueryCounter.stop();
+        }
+        int batchedRows = executions.stream().mapToInt(execution -> execution.batchSize).filter(batchSize -> batchSize > 1).sum();
+        if (executions.size() > maxStatements || batchedRows > maxBatchedRows) {
+            fail("Query budget exceeded: expected at most " + maxStatements + " statements and " + maxBatchedRows + " batched rows, but "
+                    + executions.size() + " statements and " + batchedRows + " batched rows were executed:\n"
+                    + IntStream.range(0, executions.size()).mapToObj(i -> (i + 1) + ". " + executions.get(i)).collect(Collectors.joining("\n")));
+        }
+        return result;
+    }
+
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> call) {
+        return assertAtMost(maxStatements, 0, call);
+    }
+
+    public static void assertAtMost(int maxStatements, int maxBatchedRows, Runnable call) {
+        assertAtMost(maxStatements, maxBatchedRows, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public static void assertAtMost(int maxStatements, Runnable call) {
+        assertAtMost(maxStatements, 0, call);
+    }
+
+    public static List<String> statementsOf(Runnable call) { // The statements themselves (Ex: to EXPLAIN them, Check TaskPartitionPruningTest class).
+        QueryCounter.start();
+        List<QueryCounter.Execution> executions;
+        try {
+            call.run();
+        } finally {
+            executions = QueryCounter.stop();
+        }
+        return executions.stream().map(execution -> execution.sql).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.company.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import javax.sql.DataSource;
+
+/*
+ * 🖍️...
+ * · Wraps the application DataSource in a datasource-proxy ProxyDataSource, so every statement that Hibernate or JdbcTemplate
+ *   executes goes through QueryCounter.
+ * · Usage: @SpringBootTest @Import(QueryBudgetConfiguration.class), then QueryBudget.assertAtMost(...) in the tests.
+ */
+@TestConfiguration
+public class QueryBudgetConfiguration {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource) {
+                    return ProxyDataSourceBuilder.create((DataSource) bean).name(beanName).listener(new QueryCounter()).build();
+                }
+                return bean;
+            }
+        };
+    }
+
+}
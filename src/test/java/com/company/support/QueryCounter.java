@@ -0,0 +1,59 @@
+package com.company.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+ * 🖍️...
+ * · Receives every JDBC execution from the proxied DataSource (Check QueryBudgetConfiguration class), and records it
+ *   for the current thread while a QueryBudget is recording.
+ * · A JDBC batch (executeBatch) is one round trip, so it is recorded as one execution, together with its batch size:
+ *   The rows of a batch are counted separately in the budget (Check QueryBudget class).
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<Execution>> RECORDED = new ThreadLocal<>();
+
+    static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    static List<Execution> stop() {
+        List<Execution> executions = RECORDED.get();
+        RECORDED.remove();
+        return executions;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<Execution> executions = RECORDED.get();
+        if (executions != null) {
+            String sql = queryInfoList.stream().map(QueryInfo::getQuery).distinct().collect(Collectors.joining("; "));
+            executions.add(new Execution(sql, execInfo.isBatch() ? execInfo.getBatchSize() : 0));
+        }
+    }
+
+    static final class Execution {
+        final String sql;
+        final int batchSize; // 0 when it is not a batch.
+
+        Execution(String sql, int batchSize) {
+            this.sql = sql;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public String toString() {
+            return batchSize == 0 ? sql : "[batch of " + batchSize + "] " + sql;
+        }
+    }
+
+}